@@ -0,0 +1,102 @@
+package com.softco.tenantapp;
+
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantBulkService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The application, without its web server, and an in-process stub upstream shared by the benchmarks of one trial.
+ * <p>
+ * {@code tenants} tenants named {@code bench-0}, {@code bench-1}, ... are loaded, all pointing at the stub, which
+ * answers every GET with the same small JSON body. Logging is turned down to warnings so the per-request INFO log of
+ * the routing path does not dominate the measurement.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+  private static final byte[] UPSTREAM_BODY = ("{\"items\":["
+      + String.join(",", Collections.nCopies(16, "{\"id\":12345,\"name\":\"item\",\"active\":true}"))
+      + "]}").getBytes(StandardCharsets.UTF_8);
+
+  @Param({"1000"})
+  public int tenants;
+
+  public String[] tenantIds;
+
+  private HttpServer upstream;
+  private ExecutorService upstreamExecutor;
+  private ConfigurableApplicationContext context;
+
+  @Setup(Level.Trial)
+  public void start() throws IOException {
+    upstreamExecutor = Executors.newFixedThreadPool(32);
+    upstream = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+    upstream.createContext("/", exchange -> {
+      exchange.getRequestBody().readAllBytes();
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, UPSTREAM_BODY.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(UPSTREAM_BODY);
+      }
+    });
+    upstream.setExecutor(upstreamExecutor);
+    upstream.start();
+
+    context = new SpringApplicationBuilder(TenantAppApplication.class)
+        .web(WebApplicationType.NONE)
+        .properties(
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1")
+        .run();
+
+    String endpoint = "http://" + upstream.getAddress().getHostString() + ":" + upstream.getAddress().getPort()
+        + "/resource";
+    tenantIds = IntStream.range(0, tenants).mapToObj(i -> "bench-" + i).toArray(String[]::new);
+    bean(TenantBulkService.class).upsertTenants(
+        Arrays.stream(tenantIds).map(tenantId -> new TenantDataModel(tenantId, endpoint)).iterator(),
+        result -> {
+        });
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() {
+    if (context != null) {
+      context.close();
+    }
+    if (upstream != null) {
+      upstream.stop(0);
+      upstreamExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Returns a bean of the running application.
+   *
+   * @param type the bean type.
+   * @param <T> the bean type.
+   * @return the bean.
+   */
+  public <T> T bean(Class<T> type) {
+    return context.getBean(type);
+  }
+}
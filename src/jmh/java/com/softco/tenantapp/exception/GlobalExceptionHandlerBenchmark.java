@@ -0,0 +1,58 @@
+package com.softco.tenantapp.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Measures rendering an error: creating the exception, mapping it in {@link GlobalExceptionHandler} and writing the
+ * {@link ErrorResponse} as JSON. Tenant-not-found is the stackless rejection path; a routing failure captures a stack
+ * trace and wraps a cause, as when an upstream call fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+  private GlobalExceptionHandler handler;
+  private ObjectMapper objectMapper;
+
+  @Setup
+  public void setUp() {
+    handler = new GlobalExceptionHandler();
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  @Benchmark
+  public byte[] tenantNotFound() throws JsonProcessingException {
+    var ex = new TenantNotFoundException("Tenant with ID bench-unknown not found");
+    return objectMapper.writeValueAsBytes(handler.handleTenantNotFoundException(ex, null).getBody());
+  }
+
+  @Benchmark
+  public byte[] rateLimited() throws JsonProcessingException {
+    var ex = new RateLimitExceededException("Rate limit exceeded for tenant ID bench-0", 1);
+    return objectMapper.writeValueAsBytes(handler.handleRateLimitExceededException(ex, null).getBody());
+  }
+
+  @Benchmark
+  public byte[] routingFailed() throws JsonProcessingException {
+    var ex = new RequestProcessingException("Routing failed for tenant ID bench-0: Connection refused",
+        new IllegalStateException("Connection refused"));
+    return objectMapper.writeValueAsBytes(handler.handleRequestProcessingException(ex, null).getBody());
+  }
+}
@@ -0,0 +1,90 @@
+package com.softco.tenantapp.metrics;
+
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recording one routed request in {@link MetricsService} against the Prometheus registry used in production.
+ * With the {@code gc} profiler, {@code gc.alloc.rate.norm} of the {@code record*} benchmarks should be close to zero;
+ * {@link #lookupPerCall} is the per-request registry lookup they replace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsServiceBenchmark {
+
+  private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(12);
+
+  /**
+   * Number of distinct tenants recorded; above the cap, most of them share the {@code other} meters.
+   */
+  @Param({"100", "10000"})
+  private int tenants;
+
+  private PrometheusMeterRegistry meterRegistry;
+  private MetricsService metricsService;
+  private String[] tenantIds;
+  private RequestTimings timings;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    metricsService = new MetricsService(meterRegistry, new TenantMetricsProperties());
+    tenantIds = new String[tenants];
+    for (int i = 0; i < tenants; i++) {
+      tenantIds[i] = "tenant" + i;
+      metricsService.incrementTenantRequestCount(tenantIds[i]);
+    }
+    timings = new RequestTimings();
+    for (RequestTimings.Stage stage : RequestTimings.Stage.values()) {
+      timings.record(stage, LATENCY_NANOS / 10);
+    }
+  }
+
+  @Benchmark
+  public void recordRequest() {
+    String tenantId = nextTenant();
+    metricsService.incrementTenantRequestCount(tenantId);
+    metricsService.recordTenantRequestLatency(tenantId, LATENCY_NANOS);
+  }
+
+  @Benchmark
+  public void recordStages() {
+    metricsService.recordRequestStages(nextTenant(), timings);
+  }
+
+  @Benchmark
+  public void recordSingleTenant() {
+    metricsService.incrementTenantRequestCount("tenant0");
+  }
+
+  @Benchmark
+  public void lookupPerCall() {
+    String tenantId = nextTenant();
+    meterRegistry.counter("tenant.requests.count", "tenantId", tenantId).increment();
+    meterRegistry.timer("tenant.requests.latency", "tenantId", tenantId).record(LATENCY_NANOS, TimeUnit.NANOSECONDS);
+  }
+
+  private String nextTenant() {
+    int index = next;
+    next = index + 1 == tenantIds.length ? 0 : index + 1;
+    return tenantIds[index];
+  }
+}
@@ -0,0 +1,60 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.ApplicationState;
+import com.softco.tenantapp.metrics.RequestTimings;
+import com.softco.tenantapp.model.ApiResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link RoutingService#routeRequest} end to end against the in-process stub upstream of
+ * {@link ApplicationState}: tenant lookup, the resilience chain, a pooled HTTP call over loopback and the metrics.
+ * The concurrent variant shows contention in the shared parts, such as the connection pool and the fair scheduler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class RoutingServiceBenchmark {
+
+  private RoutingService routingService;
+  private String[] tenantIds;
+  private int next;
+
+  @Setup
+  public void setUp(ApplicationState application) {
+    routingService = application.bean(RoutingService.class);
+    tenantIds = application.tenantIds;
+    next = ThreadLocalRandom.current().nextInt(tenantIds.length); // spread the threads over the tenants
+  }
+
+  @Benchmark
+  public ApiResponse<String> routeRequest() {
+    return routingService.routeRequest(nextTenant(), new RequestTimings());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public ApiResponse<String> routeRequestConcurrent() {
+    return routingService.routeRequest(nextTenant(), new RequestTimings());
+  }
+
+  private String nextTenant() {
+    int index = next;
+    next = index + 1 == tenantIds.length ? 0 : index + 1;
+    return tenantIds[index];
+  }
+}
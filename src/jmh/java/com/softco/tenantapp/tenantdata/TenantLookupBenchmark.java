@@ -0,0 +1,70 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.softco.tenantapp.ApplicationState;
+import com.softco.tenantapp.exception.TenantNotFoundException;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link TenantDataService#getTenantById} on its three paths: a routing table hit, a miss that reads the
+ * tenant from the database, and an unknown ID rejected by the negative cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantLookupBenchmark {
+
+  private TenantDataService tenantDataService;
+  private TenantRoutingTable tenantRoutingTable;
+  private String[] tenantIds;
+  private int next;
+
+  @Setup
+  public void setUp(ApplicationState application) {
+    tenantDataService = application.bean(TenantDataService.class);
+    tenantRoutingTable = application.bean(TenantRoutingTable.class);
+    tenantIds = application.tenantIds;
+    unknownTenant(); // the first lookup of an unknown ID goes to the database and fills the negative cache
+  }
+
+  @Benchmark
+  public TenantDataModel routingTableHit() {
+    return tenantDataService.getTenantById(nextTenant());
+  }
+
+  @Benchmark
+  public TenantDataModel databaseMiss() {
+    String tenantId = nextTenant();
+    tenantRoutingTable.remove(tenantId);
+    return tenantDataService.getTenantById(tenantId);
+  }
+
+  @Benchmark
+  public TenantNotFoundException unknownTenant() {
+    try {
+      tenantDataService.getTenantById("bench-unknown-0");
+      throw new IllegalStateException("bench-unknown-0 exists");
+    } catch (TenantNotFoundException e) {
+      return e;
+    }
+  }
+
+  private String nextTenant() {
+    int index = next;
+    next = index + 1 == tenantIds.length ? 0 : index + 1;
+    return tenantIds[index];
+  }
+}
@@ -0,0 +1,67 @@
+package com.softco.tenantapp.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Garbage collection and heap figures of this JVM, which hosts the application, the stubs and the load generator
+ * alike. Collections are counted since {@link #start}, and peaks are reset there.
+ *
+ * @param collections collections per collector.
+ * @param collectionMillis time spent collecting per collector.
+ */
+record JvmStats(Map<String, Long> collections, Map<String, Long> collectionMillis) {
+
+  /**
+   * Takes the starting point of a measurement and resets the heap and thread peaks.
+   *
+   * @return the collector totals so far.
+   */
+  static JvmStats start() {
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+    Map<String, Long> collections = new LinkedHashMap<>();
+    Map<String, Long> collectionMillis = new LinkedHashMap<>();
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      collections.put(collector.getName(), collector.getCollectionCount());
+      collectionMillis.put(collector.getName(), collector.getCollectionTime());
+    }
+    return new JvmStats(collections, collectionMillis);
+  }
+
+  /**
+   * Describes the JVM since {@link #start}.
+   *
+   * @param elapsedMillis the length of the measurement, to express collection time as a share of it.
+   * @return collections, collection time and heap and thread figures, for the report.
+   */
+  Map<String, Object> since(long elapsedMillis) {
+    Map<String, Object> gc = new LinkedHashMap<>();
+    long totalMillis = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      long count = collector.getCollectionCount() - collections.getOrDefault(collector.getName(), 0L);
+      long millis = collector.getCollectionTime() - collectionMillis.getOrDefault(collector.getName(), 0L);
+      totalMillis += millis;
+      gc.put(collector.getName(), Map.of("collections", count, "timeMillis", millis));
+    }
+    // Pools peak at different times, so their sum is an upper bound of the peak heap use
+    long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+    var heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("gc", gc);
+    stats.put("gcTimePercent", elapsedMillis > 0 ? 100.0 * totalMillis / elapsedMillis : 0);
+    stats.put("heapUsedMb", heap.getUsed() >> 20);
+    stats.put("heapPeakMb", peakHeap >> 20);
+    stats.put("heapMaxMb", heap.getMax() >> 20);
+    stats.put("peakThreads", ManagementFactory.getThreadMXBean().getPeakThreadCount());
+    return stats;
+  }
+}
@@ -0,0 +1,81 @@
+package com.softco.tenantapp.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for {@code GET /api/route}. Requests are sent on a fixed schedule at the target rate,
+ * whether or not earlier ones have completed, each for a tenant picked at random. A slow router therefore builds up
+ * requests in flight, as it would under real traffic, instead of slowing the load down.
+ */
+class LoadGenerator {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+  private final URI uri;
+  private final String[] tenantIds;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  LoadGenerator(URI uri, String[] tenantIds) {
+    this.uri = uri;
+    this.tenantIds = tenantIds;
+  }
+
+  /**
+   * Sends load for a while and waits for the requests still in flight. Requests that have not completed after
+   * {@link #REQUEST_TIMEOUT} are abandoned and reported as errors.
+   *
+   * @param rps the requests per second.
+   * @param duration how long to send.
+   * @return the outcomes of the requests.
+   * @throws InterruptedException if interrupted while waiting for the last requests.
+   */
+  LoadResults run(int rps, Duration duration) throws InterruptedException {
+    long intervalNanos = 1_000_000_000L / rps;
+    int planned = (int) Math.min(Integer.MAX_VALUE - 8, duration.toNanos() / intervalNanos);
+    LoadResults results = new LoadResults(planned);
+    long start = System.nanoTime();
+    for (int i = 0; i < planned; i++) {
+      long dueAt = start + i * intervalNanos;
+      long wait = dueAt - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(wait);
+      }
+      send(tenantIds[ThreadLocalRandom.current().nextInt(tenantIds.length)], dueAt, results);
+    }
+    awaitInFlight();
+    results.abandonRemaining(REQUEST_TIMEOUT.toNanos());
+    return results;
+  }
+
+  private void send(String tenantId, long dueAt, LoadResults results) {
+    HttpRequest request = HttpRequest.newBuilder(uri)
+        .header("X-Tenant-ID", tenantId)
+        .timeout(REQUEST_TIMEOUT)
+        .GET()
+        .build();
+    inFlight.incrementAndGet();
+    client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+      String outcome = response != null ? Integer.toString(response.statusCode()) : error.getClass().getSimpleName();
+      results.record(System.nanoTime() - dueAt, outcome);
+      inFlight.decrementAndGet();
+    });
+  }
+
+  private void awaitInFlight() throws InterruptedException {
+    long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+    while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+}
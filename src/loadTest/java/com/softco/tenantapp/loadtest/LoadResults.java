@@ -0,0 +1,121 @@
+package com.softco.tenantapp.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes of the requests sent in one phase of a run. Latencies are kept exactly, one per request, up to the number of
+ * requests the phase was planned to send. Requests still outstanding when the phase is closed with
+ * {@link #abandonRemaining} count as errors, so a saturated router cannot look better than it did by not answering.
+ */
+class LoadResults {
+
+  private final long[] latencies;
+  private final AtomicInteger recorded = new AtomicInteger();
+  private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+  private volatile int abandoned;
+
+  LoadResults(int plannedRequests) {
+    this.latencies = new long[plannedRequests];
+  }
+
+  /**
+   * Records a completed request.
+   *
+   * @param latencyNanos the time from when the request was due to be sent until it completed, so a generator that fell
+   *     behind shows up as latency rather than as a lower request rate.
+   * @param outcome the HTTP status, or the exception type when there was no response.
+   */
+  void record(long latencyNanos, String outcome) {
+    int index = recorded.getAndIncrement();
+    if (index >= latencies.length) {
+      // Completed after the phase was closed, and already counted as abandoned
+      return;
+    }
+    latencies[index] = latencyNanos;
+    outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * Closes the phase, counting the requests that have not completed as abandoned. Their latency is not known, so the
+   * time they were given is used as a lower bound.
+   *
+   * @param atLeastNanos the latency recorded for each abandoned request.
+   * @return the number of abandoned requests.
+   */
+  int abandonRemaining(long atLeastNanos) {
+    int done = Math.min(recorded.getAndSet(latencies.length), latencies.length);
+    Arrays.fill(latencies, done, latencies.length, atLeastNanos);
+    abandoned = latencies.length - done;
+    return abandoned;
+  }
+
+  int planned() {
+    return latencies.length;
+  }
+
+  int completed() {
+    return Math.min(recorded.get(), latencies.length) - abandoned;
+  }
+
+  int abandoned() {
+    return abandoned;
+  }
+
+  /**
+   * Counts the requests by outcome.
+   *
+   * @return the count by HTTP status or exception type, plus {@code abandoned}, in order.
+   */
+  Map<String, Long> outcomes() {
+    Map<String, Long> counts = new TreeMap<>();
+    outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+    if (abandoned > 0) {
+      counts.put("abandoned", (long) abandoned);
+    }
+    return counts;
+  }
+
+  /**
+   * Counts the requests that did not end with a 2xx response, including abandoned ones.
+   *
+   * @return the number of failed requests.
+   */
+  long errors() {
+    return outcomes().entrySet().stream()
+        .filter(outcome -> !outcome.getKey().startsWith("2"))
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+  }
+
+  /**
+   * Computes latency percentiles of the completed and abandoned requests.
+   *
+   * @param percentiles the percentiles, between 0 and 100.
+   * @return the latency in milliseconds at each percentile, keyed like {@code p99.9}, plus {@code max}.
+   */
+  Map<String, Double> latencyPercentilesMillis(double... percentiles) {
+    long[] sorted = Arrays.copyOf(latencies, completed() + abandoned);
+    Arrays.sort(sorted);
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (double percentile : percentiles) {
+      String key = "p" + (percentile == Math.rint(percentile) ? Long.toString((long) percentile) : percentile);
+      result.put(key, sorted.length == 0 ? 0 : millis(sorted[index(sorted.length, percentile)]));
+    }
+    result.put("max", sorted.length == 0 ? 0 : millis(sorted[sorted.length - 1]));
+    return result;
+  }
+
+  private static int index(int count, double percentile) {
+    return (int) Math.min(count - 1, Math.max(0, Math.ceil(percentile / 100 * count) - 1));
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
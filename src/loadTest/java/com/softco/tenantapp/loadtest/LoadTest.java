@@ -0,0 +1,120 @@
+package com.softco.tenantapp.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.softco.tenantapp.TenantAppApplication;
+import com.softco.tenantapp.model.BulkResult;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantBulkService;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the application against stub tenant backends under an open-model load and reports what it sustained.
+ * <p>
+ * Everything runs in this JVM on loopback: the application on a random port with its usual configuration, the
+ * {@link StubTenantServer}s and the {@link LoadGenerator}. After a warmup, load is sent to {@code /api/route} at
+ * {@code loadTest.rps} for {@code loadTest.duration}. The report gives planned, completed and abandoned requests,
+ * throughput, latency percentiles, outcomes by status and GC and heap figures, on the console and as JSON in
+ * {@code loadTest.report}. See {@link LoadTestSettings} for the parameters.
+ */
+public final class LoadTest {
+
+  private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    List<StubTenantServer> stubs = new ArrayList<>();
+    ConfigurableApplicationContext context = null;
+    try {
+      for (int i = 0; i < settings.stubs(); i++) {
+        stubs.add(new StubTenantServer(settings));
+      }
+      context = new SpringApplicationBuilder(TenantAppApplication.class)
+          .properties(
+              "server.port=0",
+              "spring.main.banner-mode=off",
+              // The router logs every routed request at INFO, which would dominate at load test rates
+              "logging.level.com.softco.tenantapp=WARN")
+          .run(args);
+      String[] tenantIds = loadTenants(context.getBean(TenantBulkService.class), stubs, settings.tenants());
+
+      URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+          + "/api/route");
+      LoadGenerator generator = new LoadGenerator(uri, tenantIds);
+      System.out.printf("Warming up for %s at %d req/s across %d tenants%n", settings.warmup(), settings.rps(),
+          tenantIds.length);
+      generator.run(settings.rps(), settings.warmup());
+
+      System.out.printf("Measuring for %s at %d req/s%n", settings.duration(), settings.rps());
+      JvmStats jvmStats = JvmStats.start();
+      long start = System.nanoTime();
+      LoadResults results = generator.run(settings.rps(), settings.duration());
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+      report(settings, results, jvmStats.since(elapsedMillis), elapsedMillis);
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+      stubs.forEach(StubTenantServer::close);
+    }
+  }
+
+  private static String[] loadTenants(TenantBulkService bulkService, List<StubTenantServer> stubs, int tenants) {
+    String[] tenantIds = IntStream.range(0, tenants).mapToObj(i -> "load-" + i).toArray(String[]::new);
+    AtomicInteger failed = new AtomicInteger();
+    bulkService.upsertTenants(
+        IntStream.range(0, tenants)
+            .mapToObj(i -> new TenantDataModel(tenantIds[i], stubs.get(i % stubs.size()).endpoint(tenantIds[i])))
+            .iterator(),
+        result -> {
+          if (result.getStatus() != BulkResult.Status.UPSERTED) {
+            failed.incrementAndGet();
+          }
+        });
+    if (failed.get() > 0) {
+      throw new IllegalStateException(failed.get() + " of " + tenants + " tenants could not be loaded");
+    }
+    return tenantIds;
+  }
+
+  private static void report(LoadTestSettings settings, LoadResults results, Map<String, Object> jvm,
+      long elapsedMillis) throws Exception {
+    int planned = results.planned();
+    int completed = results.completed();
+    long errors = results.errors();
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("settings", settings);
+    report.put("planned", planned);
+    report.put("completed", completed);
+    report.put("abandoned", results.abandoned());
+    report.put("throughputPerSecond", elapsedMillis > 0 ? completed * 1000.0 / elapsedMillis : 0);
+    report.put("errorRatePercent", planned > 0 ? 100.0 * errors / planned : 0);
+    report.put("latencyMillis", results.latencyPercentilesMillis(PERCENTILES));
+    report.put("outcomes", results.outcomes());
+    report.put("jvm", jvm);
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS);
+    String json = objectMapper.writeValueAsString(report);
+    System.out.println(json);
+    if (settings.report().getParent() != null) {
+      Files.createDirectories(settings.report().getParent());
+    }
+    Files.writeString(settings.report(), json);
+    System.out.println("Report written to " + settings.report().toAbsolutePath());
+  }
+}
@@ -0,0 +1,46 @@
+package com.softco.tenantapp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Parameters of a load test run, read from {@code loadTest.*} system properties. {@code ./gradlew loadTest} forwards
+ * {@code -PloadTest.*} project properties, e.g. {@code -PloadTest.rps=2000 -PloadTest.duration=2m}.
+ *
+ * @param rps requests per second sent to {@code /api/route}, whether or not earlier ones have completed.
+ * @param warmup how long to send load before measuring.
+ * @param duration how long to measure.
+ * @param tenants the number of tenants, spread round-robin over the stub servers.
+ * @param stubs the number of stub tenant servers.
+ * @param latencyMedian the median latency of a stub response.
+ * @param latencyP99 the 99th percentile latency of a stub response; latencies follow a log-normal distribution.
+ * @param payloadBytes the size of a successful stub response body.
+ * @param errorRate the fraction of stub responses that are {@code 500 Internal Server Error}.
+ * @param report where the JSON report is written.
+ */
+record LoadTestSettings(int rps, Duration warmup, Duration duration, int tenants, int stubs, Duration latencyMedian,
+    Duration latencyP99, int payloadBytes, double errorRate, Path report) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.parseInt(property("rps", "500")),
+        duration("warmup", "10s"),
+        duration("duration", "60s"),
+        Integer.parseInt(property("tenants", "2000")),
+        Integer.parseInt(property("stubs", "4")),
+        duration("latencyMedian", "20ms"),
+        duration("latencyP99", "200ms"),
+        Integer.parseInt(property("payloadBytes", "2048")),
+        Double.parseDouble(property("errorRate", "0.01")),
+        Path.of(property("report", "build/reports/loadtest/report.json")));
+  }
+
+  private static Duration duration(String name, String defaultValue) {
+    return DurationStyle.detectAndParse(property(name, defaultValue));
+  }
+
+  private static String property(String name, String defaultValue) {
+    return System.getProperty("loadTest." + name, defaultValue);
+  }
+}
@@ -0,0 +1,99 @@
+package com.softco.tenantapp.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A tenant backend on a loopback port. Every GET is answered after a log-normally distributed delay, with a fixed
+ * size JSON body or, at the configured rate, a {@code 500}. Responses are sent from a small scheduler, so slow
+ * responses hold no thread while they wait.
+ */
+class StubTenantServer implements AutoCloseable {
+
+  private static final double Z_99 = 2.326;
+  private static final byte[] ERROR_BODY = "{\"error\":\"stub failure\"}".getBytes(StandardCharsets.UTF_8);
+
+  private final HttpServer server;
+  private final ExecutorService handlers;
+  private final ScheduledExecutorService responder;
+  private final double mu;
+  private final double sigma;
+  private final double errorRate;
+  private final byte[] payload;
+
+  StubTenantServer(LoadTestSettings settings) throws IOException {
+    double median = settings.latencyMedian().toNanos();
+    this.mu = Math.log(median);
+    this.sigma = Math.max(0, Math.log(settings.latencyP99().toNanos() / median) / Z_99);
+    this.errorRate = settings.errorRate();
+    this.payload = payload(settings.payloadBytes());
+    this.handlers = Executors.newFixedThreadPool(4);
+    this.responder = Executors.newScheduledThreadPool(2);
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+    server.createContext("/", this::handle);
+    server.setExecutor(handlers);
+    server.start();
+  }
+
+  /**
+   * Returns the URL tenants of this stub are configured with.
+   *
+   * @param tenantId the tenant.
+   * @return the tenant's resource endpoint.
+   */
+  String endpoint(String tenantId) {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getHostString() + ":" + address.getPort() + "/" + tenantId;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    handlers.shutdownNow();
+    responder.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long delayNanos = (long) Math.exp(mu + sigma * random.nextGaussian());
+    boolean fail = random.nextDouble() < errorRate;
+    responder.schedule(() -> respond(exchange, fail ? 500 : 200, fail ? ERROR_BODY : payload), delayNanos,
+        TimeUnit.NANOSECONDS);
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) {
+    try {
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    } catch (IOException e) {
+      // The router gave up on the call; nothing to answer
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private static byte[] payload(int size) {
+    byte[] body = new byte[Math.max(size, 16)];
+    Arrays.fill(body, (byte) 'x');
+    byte[] prefix = "{\"data\":\"".getBytes(StandardCharsets.US_ASCII);
+    System.arraycopy(prefix, 0, body, 0, prefix.length);
+    body[body.length - 2] = '"';
+    body[body.length - 1] = '}';
+    return body;
+  }
+}
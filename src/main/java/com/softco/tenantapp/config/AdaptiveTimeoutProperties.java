@@ -0,0 +1,34 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for per-tenant upstream timeouts learned from the tenant's recent latencies. Until a tenant has enough
+ * samples, or when disabled, the static {@code tenant.http-client} timeouts apply.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.adaptive-timeout")
+public class AdaptiveTimeoutProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Latency percentile of the tenant's recent calls the timeouts are derived from.
+   */
+  private double percentile = 0.99;
+
+  /**
+   * Added to the percentile, so normal jitter above it does not time out.
+   */
+  private Duration margin = Duration.ofMillis(200);
+
+  private Duration minReadTimeout = Duration.ofMillis(250);
+
+  private Duration maxReadTimeout = Duration.ofSeconds(10);
+
+  private Duration minConnectTimeout = Duration.ofMillis(100);
+
+  private Duration maxConnectTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,30 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the per-tenant bulkheads that cap how many request threads one tenant's upstream calls may hold.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.bulkhead")
+public class BulkheadProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Concurrent upstream calls per tenant when the tenant record does not set {@code maxConcurrentCalls}.
+   */
+  private int maxConcurrentCalls = 25;
+
+  /**
+   * Requests that may wait for a permit once a tenant is at its limit; further requests are rejected at once.
+   */
+  private int maxQueueDepth = 10;
+
+  /**
+   * Longest time a queued request waits for a permit before it is rejected.
+   */
+  private Duration maxWait = Duration.ofMillis(250);
+}
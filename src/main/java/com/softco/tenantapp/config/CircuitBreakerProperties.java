@@ -0,0 +1,50 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Defaults for the per-tenant circuit breakers. The thresholds can be overridden on the tenant record.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.circuit-breaker")
+public class CircuitBreakerProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Percentage of failed calls in the current window at which the circuit opens.
+   */
+  private int failureRateThreshold = 50;
+
+  /**
+   * Calls slower than this count as slow.
+   */
+  private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+
+  /**
+   * Percentage of slow calls in the current window at which the circuit opens.
+   */
+  private int slowCallRateThreshold = 100;
+
+  /**
+   * Number of calls a window needs before its rates are evaluated.
+   */
+  private int minimumNumberOfCalls = 20;
+
+  /**
+   * Number of calls after which the window starts over.
+   */
+  private int windowSize = 100;
+
+  /**
+   * How long an open circuit fails fast before letting trial calls through.
+   */
+  private Duration openDuration = Duration.ofSeconds(30);
+
+  /**
+   * Number of trial calls allowed while half-open; their outcome closes or re-opens the circuit.
+   */
+  private int halfOpenPermittedCalls = 5;
+}
@@ -0,0 +1,40 @@
+package com.softco.tenantapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the adaptive concurrency limit in front of the routing endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+  private boolean enabled = true;
+
+  private int initialLimit = 100;
+
+  private int minLimit = 10;
+
+  private int maxLimit = 1000;
+
+  /**
+   * How far the short-term latency may rise above the long-term baseline before the limit shrinks; 1.5 tolerates 50%.
+   */
+  private double rttTolerance = 1.5;
+
+  /**
+   * Weight of each new limit estimate, between 0 and 1; lower values react more slowly but oscillate less.
+   */
+  private double smoothing = 0.2;
+
+  /**
+   * Number of samples the long-term latency baseline averages over.
+   */
+  private int longWindow = 600;
+
+  /**
+   * Number of samples the short-term latency averages over.
+   */
+  private int shortWindow = 10;
+}
@@ -0,0 +1,34 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for hedged requests, enabled per tenant by {@code hedgeRequests} on the tenant record.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.hedging")
+public class HedgingProperties {
+
+  /**
+   * Latency percentile of the tenant's recent calls after which a hedge is sent.
+   */
+  private double percentile = 0.95;
+
+  /**
+   * Lower bound of the hedge delay, so very fast tenants are not hedged on noise.
+   */
+  private Duration minDelay = Duration.ofMillis(10);
+
+  /**
+   * Hedges allowed as a percentage of a tenant's calls when the tenant record does not set
+   * {@code hedgeBudgetPercent}.
+   */
+  private int defaultBudgetPercent = 10;
+
+  /**
+   * Threads running hedged tenants' upstream calls. When all are busy, calls run on the request thread unhedged.
+   */
+  private int threads = 32;
+}
@@ -0,0 +1,64 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the outbound HTTP client used to call tenant endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.http-client")
+public class HttpClientProperties {
+
+  /**
+   * HTTP_1_1 uses a pooled Apache HttpClient with pool metrics; HTTP_2 uses the JDK client, which multiplexes requests
+   * over one connection per host when the upstream negotiates HTTP/2 and falls back to HTTP/1.1 otherwise.
+   */
+  private Protocol protocol = Protocol.HTTP_1_1;
+
+  /**
+   * Maximum time to establish a TCP (and TLS) connection to a tenant.
+   */
+  private Duration connectTimeout = Duration.ofSeconds(2);
+
+  /**
+   * Maximum time to wait for a tenant to respond once the request was sent.
+   */
+  private Duration readTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Maximum time to wait for a free pooled connection.
+   */
+  private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+  /**
+   * Maximum number of pooled connections across all tenants.
+   */
+  private int maxConnectionsTotal = 200;
+
+  /**
+   * Maximum number of pooled connections to a single host.
+   */
+  private int maxConnectionsPerRoute = 50;
+
+  /**
+   * How long a connection is kept alive when the tenant does not send a Keep-Alive header.
+   */
+  private Duration keepAlive = Duration.ofSeconds(30);
+
+  /**
+   * Connections idle for longer than this are closed by a background evictor.
+   */
+  private Duration idleEviction = Duration.ofSeconds(30);
+
+  /**
+   * Pooled connections idle for longer than this are checked before being reused.
+   */
+  private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+  public enum Protocol {
+    HTTP_1_1,
+    HTTP_2
+  }
+}
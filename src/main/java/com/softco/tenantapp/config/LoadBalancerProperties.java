@@ -0,0 +1,23 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Passive health checking for tenants with several weighted endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.load-balancer")
+public class LoadBalancerProperties {
+
+  /**
+   * Consecutive failed calls after which an endpoint is ejected from selection.
+   */
+  private int consecutiveFailures = 5;
+
+  /**
+   * How long an ejected endpoint is skipped before it gets traffic again.
+   */
+  private Duration ejectionDuration = Duration.ofSeconds(30);
+}
@@ -0,0 +1,34 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the per-tenant upstream response cache. Caching is enabled per tenant by setting
+ * {@code cacheTtlSeconds} on the tenant record.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.response-cache")
+public class ResponseCacheProperties {
+
+  /**
+   * Size bound of a tenant's cache when the tenant record does not set {@code cacheMaxBytes}.
+   */
+  private long defaultMaxBytes = 10L * 1024 * 1024;
+
+  /**
+   * How long an expired entry that carries an ETag or Last-Modified validator is kept for conditional revalidation.
+   */
+  private Duration validatorRetention = Duration.ofMinutes(10);
+
+  /**
+   * Number of threads refreshing stale entries in the background.
+   */
+  private int refreshThreads = 4;
+
+  /**
+   * Maximum number of pending background refreshes; stale entries are served without a refresh beyond that.
+   */
+  private int refreshQueueCapacity = 100;
+}
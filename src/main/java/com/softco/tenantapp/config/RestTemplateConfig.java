@@ -1,14 +1,151 @@
 package com.softco.tenantapp.config;
 
+import com.softco.tenantapp.metrics.RequestTimings;
+import com.softco.tenantapp.routing.AdaptiveTimeouts;
+import com.softco.tenantapp.routing.RequestDeadline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.netty.channel.ChannelOption;
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
+  private static final String POOL_NAME = "tenant-upstream";
+  private static final String CONNECT_STARTED_AT = "tenant.timing.connect-started-at";
+
+  private final HttpClientProperties properties;
+
+  /**
+   * Template for tenant calls. Every call forwards the remaining {@link RequestDeadline} of the routing request.
+   */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(ClientHttpRequestFactory tenantRequestFactory) {
+    RestTemplate restTemplate = new RestTemplate(tenantRequestFactory);
+    restTemplate.getInterceptors().add((request, body, execution) -> {
+      RequestDeadline.propagate(request.getHeaders());
+      return execution.execute(request, body);
+    });
+    return restTemplate;
+  }
+
+  /**
+   * Request factory for tenant calls, chosen by {@code tenant.http-client.protocol}.
+   */
+  @Bean
+  public ClientHttpRequestFactory tenantRequestFactory(MeterRegistry meterRegistry) {
+    if (properties.getProtocol() == HttpClientProperties.Protocol.HTTP_2) {
+      HttpClient httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .connectTimeout(properties.getConnectTimeout())
+          .build();
+      var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+      requestFactory.setReadTimeout(properties.getReadTimeout());
+      return requestFactory;
+    }
+    RequestConfig requestConfig = RequestConfig.custom()
+        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+        .setDefaultKeepAlive(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+        .build();
+    var requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient(meterRegistry, requestConfig));
+    requestFactory.setHttpContextFactory((method, uri) -> adaptiveTimeoutContext(requestConfig));
+    return requestFactory;
+  }
+
+  /**
+   * Non-blocking client used when {@code tenant.routing.mode=reactive}, backed by the Reactor Netty event loop.
+   */
+  @Bean
+  public WebClient webClient(WebClient.Builder webClientBuilder) {
+    ConnectionProvider connectionProvider = ConnectionProvider.builder(POOL_NAME)
+        .maxConnections(properties.getMaxConnectionsPerRoute())
+        .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+        .maxIdleTime(properties.getIdleEviction())
+        .evictInBackground(properties.getIdleEviction())
+        .metrics(true)
+        .build();
+    reactor.netty.http.client.HttpClient httpClient = reactor.netty.http.client.HttpClient.create(connectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+        .responseTimeout(properties.getReadTimeout())
+        .keepAlive(true);
+    return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+  }
+
+  /**
+   * Overrides the timeouts of a call made inside {@link AdaptiveTimeouts#apply}. The JDK client used for HTTP/2 has no
+   * per-request connect timeout and keeps the static ones.
+   */
+  @SuppressWarnings("deprecation") // a per-request connect timeout still takes precedence over the ConnectionConfig
+  private static HttpClientContext adaptiveTimeoutContext(RequestConfig defaults) {
+    AdaptiveTimeouts.Timeouts timeouts = AdaptiveTimeouts.current();
+    if (timeouts == null) {
+      return null;
+    }
+    HttpClientContext context = HttpClientContext.create();
+    context.setRequestConfig(RequestConfig.copy(defaults)
+        .setConnectTimeout(Timeout.ofMilliseconds(timeouts.connectTimeoutMillis()))
+        .setResponseTimeout(Timeout.ofMilliseconds(timeouts.readTimeoutMillis()))
+        .build());
+    return context;
+  }
+
+  private CloseableHttpClient pooledHttpClient(MeterRegistry meterRegistry, RequestConfig requestConfig) {
+    PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.getMaxConnectionsTotal())
+        .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+            .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+            .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+            .build())
+        .build();
+    // Exports httpcomponents.httpclient.pool.total.{max,connections,pending} and route max gauges.
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+        // Retries are RetryPolicy's alone, within its budget and the request deadline
+        .disableAutomaticRetries()
+        // Report connection acquisition and time to first byte of each attempt to RequestTimings
+        .addExecInterceptorBefore(ChainElement.CONNECT.name(), "timing-connect", (request, scope, chain) -> {
+          scope.clientContext.setAttribute(CONNECT_STARTED_AT, System.nanoTime());
+          return chain.proceed(request, scope);
+        })
+        .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(), "timing-transport", (request, scope, chain) -> {
+          long sentAt = System.nanoTime();
+          if (scope.clientContext.getAttribute(CONNECT_STARTED_AT) instanceof Long connectStartedAt) {
+            RequestTimings.connectionAcquired(sentAt - connectStartedAt);
+          }
+          var response = chain.proceed(request, scope);
+          RequestTimings.responseHeadersReceived(System.nanoTime() - sentAt);
+          return response;
+        })
+        .build();
   }
 }
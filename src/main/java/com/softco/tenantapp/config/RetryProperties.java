@@ -0,0 +1,36 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for retrying failed upstream GETs.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.retry")
+public class RetryProperties {
+
+  /**
+   * Retries per call when the tenant record does not set {@code maxRetries}; 0 disables retries.
+   */
+  private int defaultMaxRetries = 0;
+
+  /**
+   * Backoff cap before the first retry; it doubles with every further retry up to {@code maxBackoff}. The actual
+   * sleep is drawn uniformly below the cap (full jitter).
+   */
+  private Duration initialBackoff = Duration.ofMillis(50);
+
+  private Duration maxBackoff = Duration.ofSeconds(1);
+
+  /**
+   * Retries allowed as a percentage of a tenant's calls, so retries cannot multiply the load on a failing upstream.
+   */
+  private int budgetPercent = 20;
+
+  /**
+   * Retries that may be spent at once after a quiet period.
+   */
+  private int budgetMaxTokens = 10;
+}
@@ -0,0 +1,45 @@
+package com.softco.tenantapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softco.tenantapp.routing.AdaptiveConcurrencyLimiter;
+import com.softco.tenantapp.routing.ConcurrencyLimitFilter;
+import com.softco.tenantapp.routing.RequestDeadlineFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Servlet filters that apply to the routing endpoints only, including the scatter endpoint, whose upstream calls run
+ * under its deadline.
+ */
+@Configuration
+public class RoutingFilterConfig {
+
+  private static final String[] ROUTING_URL_PATTERNS = {"/api/route", "/api/route/*", "/api/scatter"};
+
+  /**
+   * Registers the load shedding filter ahead of every other filter.
+   */
+  @Bean
+  @ConditionalOnProperty(name = "tenant.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+  public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+      ObjectMapper objectMapper) {
+    var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper));
+    registration.addUrlPatterns(ROUTING_URL_PATTERNS);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  /**
+   * Registers the filter that starts the request deadline right after admission.
+   */
+  @Bean
+  public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter() {
+    var registration = new FilterRegistrationBean<>(new RequestDeadlineFilter());
+    registration.addUrlPatterns(ROUTING_URL_PATTERNS);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
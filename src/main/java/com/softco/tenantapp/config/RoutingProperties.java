@@ -0,0 +1,27 @@
+package com.softco.tenantapp.config;
+
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for how requests are forwarded to tenant endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.routing")
+public class RoutingProperties {
+
+  /**
+   * Request headers copied from the client to the tenant on {@code /api/route/**}. Everything else, including
+   * hop-by-hop headers and {@code X-Tenant-ID}, is dropped.
+   */
+  private List<String> forwardedRequestHeaders = List.of("Accept", "Accept-Language", "Authorization",
+      "Content-Type", "Content-Encoding", "If-Match", "If-None-Match", "If-Modified-Since", "User-Agent",
+      "X-Request-ID");
+
+  /**
+   * Response headers copied from the tenant back to the client, in addition to status, content type and length.
+   */
+  private List<String> forwardedResponseHeaders = List.of("Cache-Control", "Content-Disposition",
+      "Content-Encoding", "ETag", "Expires", "Last-Modified", "Location", "Retry-After");
+}
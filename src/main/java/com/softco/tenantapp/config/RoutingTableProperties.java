@@ -0,0 +1,34 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory tenant routing table.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.routing-table")
+public class RoutingTableProperties {
+
+  /**
+   * Maximum number of tenants held in memory before the least valuable entries are evicted.
+   */
+  private long maxSize = 10_000;
+
+  /**
+   * How long an entry may be served before it is reloaded from the database.
+   */
+  private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+  /**
+   * Maximum number of unknown tenant IDs remembered by the negative cache.
+   */
+  private long negativeMaxSize = 100_000;
+
+  /**
+   * How long an unknown tenant ID is rejected without a database lookup. Tenants added through this instance are
+   * usable immediately; the TTL bounds the delay for tenants added elsewhere.
+   */
+  private Duration negativeTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,33 @@
+package com.softco.tenantapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@code POST /api/scatter}, which routes one request to many tenants in parallel.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.scatter")
+public class ScatterGatherProperties {
+
+  /**
+   * Largest number of tenant IDs accepted in one request.
+   */
+  private int maxTenants = 1000;
+
+  /**
+   * Upstream calls one scatter request may have in flight at once.
+   */
+  private int parallelism = 16;
+
+  /**
+   * Threads shared by all scatter requests for their upstream calls.
+   */
+  private int threads = 64;
+
+  /**
+   * Upstream calls of all scatter requests that may wait for a thread. A call that does not fit is not made; its
+   * tenant gets a {@code 503} result.
+   */
+  private int queueCapacity = 1000;
+}
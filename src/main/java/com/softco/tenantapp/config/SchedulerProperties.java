@@ -0,0 +1,37 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the fair scheduler that shares the router's upstream call slots between tenants once they are all
+ * taken. Tenants are weighted by {@code schedulingWeight} and classed by {@code schedulingPriority} on the tenant
+ * record.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.scheduler")
+public class SchedulerProperties {
+
+  private boolean enabled = true;
+
+  /**
+   * Upstream calls in flight across all tenants before further calls queue.
+   */
+  private int maxConcurrentCalls = 200;
+
+  /**
+   * Calls that may be queued across all tenants; further calls are rejected at once.
+   */
+  private int maxQueueDepth = 1000;
+
+  /**
+   * Longest time a queued call waits for a slot before it is rejected.
+   */
+  private Duration maxWait = Duration.ofSeconds(1);
+
+  /**
+   * Weight of tenants whose record does not set {@code schedulingWeight}.
+   */
+  private int defaultWeight = 1;
+}
@@ -0,0 +1,17 @@
+package com.softco.tenantapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the bulk tenant administration endpoints under {@code /api/tenants/bulk}.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.bulk")
+public class TenantBulkProperties {
+
+  /**
+   * Tenants written per JDBC batch and transaction. A failing chunk is rolled back on its own.
+   */
+  private int chunkSize = 1000;
+}
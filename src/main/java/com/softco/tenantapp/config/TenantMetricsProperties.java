@@ -0,0 +1,33 @@
+package com.softco.tenantapp.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the tenant-tagged application metrics.
+ */
+@Data
+@ConfigurationProperties(prefix = "tenant.metrics")
+public class TenantMetricsProperties {
+
+  /**
+   * Tenants that get their own {@code tenantId} tag. Further tenants are recorded under {@code tenantId=other}, so
+   * the number of time series stays bounded however many tenants there are.
+   */
+  private int maxTaggedTenants = 1000;
+
+  /**
+   * Whether request latency and stage timers publish a percentile histogram, so percentiles can be aggregated across
+   * instances. Each timer then exports several dozen buckets per tagged tenant.
+   */
+  private boolean percentileHistogram = true;
+
+  /**
+   * Latency SLO boundaries published as extra histogram buckets on request latency and stage timers.
+   */
+  private List<Duration> serviceLevelObjectives = List.of(Duration.ofMillis(1), Duration.ofMillis(5),
+      Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+      Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5));
+}
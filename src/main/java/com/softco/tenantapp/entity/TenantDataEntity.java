@@ -1,12 +1,20 @@
 package com.softco.tenantapp.entity;
 
 import com.softco.tenantapp.model.TenantDataModel;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 @Data
 @AllArgsConstructor
@@ -18,11 +26,54 @@ public class TenantDataEntity {
   @Id
   private String tenantId;
   private String resourceEndpoint;
+  private boolean coalesceRequests;
+  private Integer cacheTtlSeconds;
+  private Integer cacheStaleSeconds;
+  private Long cacheMaxBytes;
+  private Integer circuitFailureRateThreshold;
+  private Integer circuitSlowCallRateThreshold;
+  private Integer circuitSlowCallMillis;
+  private Integer rateLimitPerSecond;
+  private Integer rateLimitBurst;
+  private Integer maxConcurrentCalls;
+  private boolean hedgeRequests;
+  private Integer hedgeBudgetPercent;
+  private Integer maxRetries;
+  private Integer schedulingWeight;
+  private Integer schedulingPriority;
+
+  @ElementCollection(fetch = FetchType.EAGER)
+  @CollectionTable(name = "tenant_endpoint", joinColumns = @JoinColumn(name = "tenant_id"))
+  @BatchSize(size = 100)
+  private List<TenantEndpoint> endpoints = new ArrayList<>();
+
+  public TenantDataEntity(String tenantId, String resourceEndpoint) {
+    this.tenantId = tenantId;
+    this.resourceEndpoint = resourceEndpoint;
+  }
 
   public static TenantDataEntity from(TenantDataModel model) {
     var entity = new TenantDataEntity();
     entity.setTenantId(model.getTenantId());
     entity.setResourceEndpoint(model.getResourceEndpoint());
+    entity.setCoalesceRequests(model.isCoalesceRequests());
+    entity.setCacheTtlSeconds(model.getCacheTtlSeconds());
+    entity.setCacheStaleSeconds(model.getCacheStaleSeconds());
+    entity.setCacheMaxBytes(model.getCacheMaxBytes());
+    entity.setCircuitFailureRateThreshold(model.getCircuitFailureRateThreshold());
+    entity.setCircuitSlowCallRateThreshold(model.getCircuitSlowCallRateThreshold());
+    entity.setCircuitSlowCallMillis(model.getCircuitSlowCallMillis());
+    entity.setRateLimitPerSecond(model.getRateLimitPerSecond());
+    entity.setRateLimitBurst(model.getRateLimitBurst());
+    entity.setMaxConcurrentCalls(model.getMaxConcurrentCalls());
+    entity.setHedgeRequests(model.isHedgeRequests());
+    entity.setHedgeBudgetPercent(model.getHedgeBudgetPercent());
+    entity.setMaxRetries(model.getMaxRetries());
+    entity.setSchedulingWeight(model.getSchedulingWeight());
+    entity.setSchedulingPriority(model.getSchedulingPriority());
+    if (model.getEndpoints() != null) {
+      entity.setEndpoints(model.getEndpoints().stream().map(TenantEndpoint::from).collect(Collectors.toList()));
+    }
 
     return entity;
   }
@@ -0,0 +1,21 @@
+package com.softco.tenantapp.entity;
+
+import com.softco.tenantapp.model.TenantEndpointModel;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class TenantEndpoint {
+
+  private String url;
+  private int weight;
+
+  public static TenantEndpoint from(TenantEndpointModel model) {
+    return new TenantEndpoint(model.getUrl(), model.getWeight());
+  }
+}
@@ -0,0 +1,14 @@
+package com.softco.tenantapp.exception;
+
+public class BulkheadFullException extends RuntimeException {
+
+  /**
+   * Creates the exception without a stack trace. It is thrown when a tenant has used up its concurrent calls and its
+   * queue, which is the moment the router can least afford extra work.
+   *
+   * @param message the detail message.
+   */
+  public BulkheadFullException(String message) {
+    super(message, null, false, false);
+  }
+}
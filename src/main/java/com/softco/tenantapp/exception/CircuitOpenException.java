@@ -0,0 +1,14 @@
+package com.softco.tenantapp.exception;
+
+public class CircuitOpenException extends RuntimeException {
+
+  /**
+   * Creates the exception without a stack trace, since it is the fast-fail path taken for every request while a
+   * tenant's circuit is open.
+   *
+   * @param message the detail message.
+   */
+  public CircuitOpenException(String message) {
+    super(message, null, false, false);
+  }
+}
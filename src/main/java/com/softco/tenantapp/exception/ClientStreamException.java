@@ -0,0 +1,17 @@
+package com.softco.tenantapp.exception;
+
+import java.io.IOException;
+
+public class ClientStreamException extends RuntimeException {
+
+  /**
+   * Creates the exception without a stack trace; it only reports that reading the client's request body or writing
+   * the response to the client failed, e.g. because the client disconnected, which says nothing about the upstream.
+   *
+   * @param message the detail message.
+   * @param cause the I/O failure on the client's connection.
+   */
+  public ClientStreamException(String message, IOException cause) {
+    super(message, cause, false, false);
+  }
+}
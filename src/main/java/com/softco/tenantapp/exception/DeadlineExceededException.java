@@ -0,0 +1,14 @@
+package com.softco.tenantapp.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+
+  /**
+   * Creates the exception without a stack trace; it only reports that the caller's deadline passed before the upstream
+   * could be called (again).
+   *
+   * @param message the detail message.
+   */
+  public DeadlineExceededException(String message) {
+    super(message, null, false, false);
+  }
+}
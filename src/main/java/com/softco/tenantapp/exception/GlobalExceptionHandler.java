@@ -1,9 +1,12 @@
 package com.softco.tenantapp.exception;
 
+import com.softco.tenantapp.metrics.RequestTimings;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.WebRequest;
 
 /**
@@ -21,7 +24,7 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(TenantNotFoundException.class)
   public ResponseEntity<ErrorResponse> handleTenantNotFoundException(TenantNotFoundException ex, WebRequest request) {
-    return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND, ex);
+    return buildErrorResponse(ex.getMessage(), HttpStatus.NOT_FOUND, ex, request);
   }
 
   /**
@@ -34,7 +37,7 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(RequestProcessingException.class)
   public ResponseEntity<ErrorResponse> handleRequestProcessingException(RequestProcessingException ex,
       WebRequest request) {
-    return buildErrorResponse(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, ex);
+    return buildErrorResponse(ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR, ex, request);
   }
 
   /**
@@ -47,7 +50,84 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MissingHeaderException.class)
   public ResponseEntity<ErrorResponse> handleMissingHeaderException(MissingHeaderException ex,
       WebRequest request) {
-    return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, ex);
+    return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, ex, request);
+  }
+
+  /**
+   * Handles InvalidRequestException.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details
+   */
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex,
+      WebRequest request) {
+    return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, ex, request);
+  }
+
+  /**
+   * Handles ClientStreamException.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details
+   */
+  @ExceptionHandler(ClientStreamException.class)
+  public ResponseEntity<ErrorResponse> handleClientStreamException(ClientStreamException ex, WebRequest request) {
+    return buildErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST, ex, request);
+  }
+
+  /**
+   * Handles CircuitOpenException.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details
+   */
+  @ExceptionHandler(CircuitOpenException.class)
+  public ResponseEntity<ErrorResponse> handleCircuitOpenException(CircuitOpenException ex, WebRequest request) {
+    return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, ex, request);
+  }
+
+  /**
+   * Handles BulkheadFullException.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details
+   */
+  @ExceptionHandler(BulkheadFullException.class)
+  public ResponseEntity<ErrorResponse> handleBulkheadFullException(BulkheadFullException ex, WebRequest request) {
+    return buildErrorResponse(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, ex, request);
+  }
+
+  /**
+   * Handles DeadlineExceededException.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details
+   */
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException ex,
+      WebRequest request) {
+    return buildErrorResponse(ex.getMessage(), HttpStatus.GATEWAY_TIMEOUT, ex, request);
+  }
+
+  /**
+   * Handles RateLimitExceededException, telling the client when to retry.
+   *
+   * @param ex the exception
+   * @param request the current web request
+   * @return a ResponseEntity with error details and a Retry-After header
+   */
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex,
+      WebRequest request) {
+    return responseFor(HttpStatus.TOO_MANY_REQUESTS, request)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+        .body(new ErrorResponse(ex.getMessage(), ex.getClass().getSimpleName()));
   }
 
   /**
@@ -59,7 +139,7 @@ public class GlobalExceptionHandler {
    */
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, WebRequest request) {
-    return buildErrorResponse("An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR, ex);
+    return buildErrorResponse("An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR, ex, request);
   }
 
   /**
@@ -68,10 +148,28 @@ public class GlobalExceptionHandler {
    * @param message the error message
    * @param status the HTTP status
    * @param ex the exception
+   * @param request the current web request
    * @return a ResponseEntity with an ErrorResponse body
    */
-  private ResponseEntity<ErrorResponse> buildErrorResponse(String message, HttpStatus status, Exception ex) {
+  private ResponseEntity<ErrorResponse> buildErrorResponse(String message, HttpStatus status, Exception ex,
+      WebRequest request) {
     ErrorResponse errorResponse = new ErrorResponse(message, ex.getClass().getSimpleName());
-    return ResponseEntity.status(status).body(errorResponse);
+    return responseFor(status, request).body(errorResponse);
+  }
+
+  /**
+   * Starts an error response, with the Server-Timing header of a routed request that failed.
+   *
+   * @param status the HTTP status
+   * @param request the current web request, or {@code null}
+   * @return the response builder
+   */
+  private ResponseEntity.BodyBuilder responseFor(HttpStatus status, WebRequest request) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+    if (request != null && request.getAttribute(RequestTimings.ATTRIBUTE,
+        RequestAttributes.SCOPE_REQUEST) instanceof RequestTimings timings) {
+      response.header(RequestTimings.HEADER, timings.toServerTiming());
+    }
+    return response;
   }
 }
@@ -0,0 +1,13 @@
+package com.softco.tenantapp.exception;
+
+public class InvalidRequestException extends RuntimeException {
+
+  /**
+   * Creates the exception without a stack trace, since it only reports a malformed client request.
+   *
+   * @param message the detail message.
+   */
+  public InvalidRequestException(String message) {
+    super(message, null, false, false);
+  }
+}
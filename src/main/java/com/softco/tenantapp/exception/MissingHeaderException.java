@@ -2,8 +2,14 @@ package com.softco.tenantapp.exception;
 
 public class MissingHeaderException extends RuntimeException {
 
+  /**
+   * Creates the exception without a stack trace. A missing header is a client error, so the trace would only cost
+   * time on every rejected request.
+   *
+   * @param message the detail message.
+   */
   public MissingHeaderException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public MissingHeaderException(String message, Throwable cause) {
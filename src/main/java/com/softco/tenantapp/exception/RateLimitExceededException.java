@@ -0,0 +1,24 @@
+package com.softco.tenantapp.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+  /**
+   * Seconds until the tenant may send its next request.
+   */
+  private final long retryAfterSeconds;
+
+  /**
+   * Creates the exception without a stack trace; rejected requests are expected under load and should cost as little
+   * as possible.
+   *
+   * @param message the detail message.
+   * @param retryAfterSeconds seconds until the next request would be admitted.
+   */
+  public RateLimitExceededException(String message, long retryAfterSeconds) {
+    super(message, null, false, false);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -2,8 +2,14 @@ package com.softco.tenantapp.exception;
 
 public class TenantNotFoundException extends RuntimeException {
 
+  /**
+   * Creates the exception without capturing a stack trace; it is thrown on a hot rejection path where the trace
+   * carries no information.
+   *
+   * @param message the detail message.
+   */
   public TenantNotFoundException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public TenantNotFoundException(String message, Throwable cause) {
@@ -1,14 +1,52 @@
 package com.softco.tenantapp.metrics;
 
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+/**
+ * Records the application metrics.
+ * <p>
+ * Meters recorded on every request are resolved once per tenant and kept, so recording is a map lookup and an
+ * increment without allocation. Only the first {@code maxTaggedTenants} tenants seen get their own {@code tenantId}
+ * tag; the rest share {@code tenantId=other}, and per-tenant gauges are not registered for them. A tenant that is
+ * actually called {@code other} is always counted in that bucket. The IDs of each tagged tenant's meters are kept, so
+ * a deleted tenant's meters can be removed from the registry without scanning it.
+ */
 @Service
-@RequiredArgsConstructor
 public class MetricsService {
 
+  static final String TENANT_TAG = "tenantId";
+  static final String OTHER_TENANTS = "other";
+
+  // Tenant lookups and serialization take microseconds, below the default 1ms histogram floor
+  private static final long STAGE_MIN_EXPECTED_NANOS = 10_000;
+
   private final MeterRegistry meterRegistry;
+  private final TenantMetricsProperties properties;
+  private final Map<String, TenantMeters> tenantMeters = new ConcurrentHashMap<>();
+  private final Counter routingTableHits;
+  private final Counter routingTableMisses;
+  private volatile TenantMeters otherTenantMeters;
+
+  public MetricsService(MeterRegistry meterRegistry, TenantMetricsProperties properties) {
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+    this.routingTableHits = meterRegistry.counter("tenant.routing.table.lookups", "result", "hit");
+    this.routingTableMisses = meterRegistry.counter("tenant.routing.table.lookups", "result", "miss");
+  }
 
   /**
    * Increments a request count metric for a specific tenant.
@@ -16,17 +54,352 @@ public class MetricsService {
    * @param tenantId the ID of the tenant
    */
   public void incrementTenantRequestCount(String tenantId) {
-    meterRegistry.counter("tenant.requests.count", "tenantId", tenantId).increment();
+    meters(tenantId).requestCount().increment();
   }
 
   /**
    * Records request latency for a specific tenant.
    *
    * @param tenantId the ID of the tenant
-   * @param latency the time taken to process the request in milliseconds
+   * @param latencyNanos the time taken to process the request in nanoseconds
+   */
+  public void recordTenantRequestLatency(String tenantId, long latencyNanos) {
+    meters(tenantId).requestLatency().record(latencyNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Records the duration of one stage of a routed request.
+   *
+   * @param tenantId the ID of the tenant
+   * @param stage the stage
+   * @param durationNanos the duration of the stage in nanoseconds
+   */
+  public void recordRequestStage(String tenantId, RequestTimings.Stage stage, long durationNanos) {
+    meters(tenantId).stages()[stage.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Records every stage of a routed request measured so far.
+   *
+   * @param tenantId the ID of the tenant
+   * @param timings the timings of the request
+   */
+  public void recordRequestStages(String tenantId, RequestTimings timings) {
+    Timer[] stages = meters(tenantId).stages();
+    for (RequestTimings.Stage stage : RequestTimings.Stage.values()) {
+      long durationNanos = timings.nanos(stage);
+      if (durationNanos >= 0) {
+        stages[stage.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * Records the outcome of a routing table lookup.
+   *
+   * @param hit whether the tenant was served from memory
+   */
+  public void recordRoutingTableLookup(boolean hit) {
+    (hit ? routingTableHits : routingTableMisses).increment();
+  }
+
+  /**
+   * Records tenants loaded into the routing table.
+   *
+   * @param source where the tenants came from, e.g. "bulk" or "miss"
+   * @param count the number of tenants loaded
+   */
+  public void recordRoutingTableLoad(String source, int count) {
+    meterRegistry.counter("tenant.routing.table.loads", "source", source).increment(count);
+  }
+
+  /**
+   * Increments the number of lookups rejected by the routing table's negative cache.
+   */
+  public void incrementRoutingTableNegativeHits() {
+    meterRegistry.counter("tenant.routing.table.negative.hits").increment();
+  }
+
+  /**
+   * Increments the number of tenants evicted from the routing table.
+   */
+  public void incrementRoutingTableEvictions() {
+    meterRegistry.counter("tenant.routing.table.evictions").increment();
+  }
+
+  /**
+   * Registers a gauge reporting the current routing table size.
+   *
+   * @param size supplier of the current number of entries
+   */
+  public void registerRoutingTableSize(Supplier<Number> size) {
+    Gauge.builder("tenant.routing.table.size", size).register(meterRegistry);
+  }
+
+  /**
+   * Records whether a coalescing-enabled request performed the upstream call or joined one already in flight. The
+   * coalescing ratio is {@code joined / (leader + joined)}.
+   *
+   * @param tenantId the ID of the tenant
+   * @param joined whether the request shared another request's upstream call
+   */
+  public void recordRequestCoalescing(String tenantId, boolean joined) {
+    tracked(tenantId, meterRegistry.counter("tenant.requests.coalescing", TENANT_TAG, tenantTag(tenantId),
+        "role", joined ? "joined" : "leader")).increment();
+  }
+
+  /**
+   * Records the outcome of a response cache lookup. The hit ratio is {@code (hit + stale) / total}.
+   *
+   * @param tenantId the ID of the tenant
+   * @param result one of "hit", "stale" (served while refreshing), "revalidate" or "miss"
+   */
+  public void recordResponseCacheLookup(String tenantId, String result) {
+    tracked(tenantId, meterRegistry.counter("tenant.response.cache.lookups", TENANT_TAG, tenantTag(tenantId),
+        "result", result)).increment();
+  }
+
+  /**
+   * Increments the number of responses evicted from a tenant's cache to stay within its size bound.
+   *
+   * @param tenantId the ID of the tenant
+   */
+  public void incrementResponseCacheEvictions(String tenantId) {
+    tracked(tenantId, meterRegistry.counter("tenant.response.cache.evictions", TENANT_TAG, tenantTag(tenantId)))
+        .increment();
+  }
+
+  /**
+   * Records a circuit breaker state transition.
+   *
+   * @param tenantId the ID of the tenant
+   * @param from the state before the transition
+   * @param to the state after the transition
+   */
+  public void recordCircuitTransition(String tenantId, String from, String to) {
+    tracked(tenantId, meterRegistry.counter("tenant.circuit.transitions", TENANT_TAG, tenantTag(tenantId),
+        "from", from, "to", to)).increment();
+  }
+
+  /**
+   * Registers a gauge reporting a tenant's circuit state: 0 closed, 1 open, 2 half-open.
+   *
+   * @param tenantId the ID of the tenant
+   * @param state supplier of the current state code
+   */
+  public void registerCircuitState(String tenantId, Supplier<Number> state) {
+    if (!isTagged(tenantId)) {
+      return;
+    }
+    tracked(tenantId, Gauge.builder("tenant.circuit.state", state).tag(TENANT_TAG, tenantId).register(meterRegistry));
+  }
+
+  /**
+   * Returns the counter of rate limiting decisions for a tenant. Callers keep the counter so the hot path does not look
+   * it up per request.
+   *
+   * @param tenantId the ID of the tenant
+   * @param admitted whether the counter is for admitted or rejected requests
+   * @return the counter, tagged {@code result=admitted|rejected}
+   */
+  public Counter rateLimitCounter(String tenantId, boolean admitted) {
+    return tracked(tenantId, meterRegistry.counter("tenant.ratelimit.requests", TENANT_TAG, tenantTag(tenantId),
+        "result", admitted ? "admitted" : "rejected"));
+  }
+
+  /**
+   * Registers gauges reporting a tenant's bulkhead usage.
+   *
+   * @param tenantId the ID of the tenant
+   * @param inFlight supplier of the number of upstream calls holding a permit
+   * @param queued supplier of the number of requests waiting for a permit
+   */
+  public void registerBulkheadGauges(String tenantId, Supplier<Number> inFlight, Supplier<Number> queued) {
+    if (!isTagged(tenantId)) {
+      return;
+    }
+    tracked(tenantId, Gauge.builder("tenant.bulkhead.inflight", inFlight).tag(TENANT_TAG, tenantId)
+        .register(meterRegistry));
+    tracked(tenantId, Gauge.builder("tenant.bulkhead.queued", queued).tag(TENANT_TAG, tenantId)
+        .register(meterRegistry));
+  }
+
+  /**
+   * Increments the number of requests rejected because a tenant's bulkhead was full.
+   *
+   * @param tenantId the ID of the tenant
+   */
+  public void incrementBulkheadRejections(String tenantId) {
+    tracked(tenantId, meterRegistry.counter("tenant.bulkhead.rejections", TENANT_TAG, tenantTag(tenantId)))
+        .increment();
+  }
+
+  /**
+   * Registers gauges describing the router-wide adaptive concurrency limit.
+   *
+   * @param limit supplier of the current limit
+   * @param inFlight supplier of the number of admitted requests in progress
+   * @param shortRttMillis supplier of the short-term average request latency in milliseconds
+   * @param longRttMillis supplier of the long-term (baseline) average request latency in milliseconds
    */
-  public void recordTenantRequestLatency(String tenantId, double latency) {
-    meterRegistry.timer("tenant.requests.latency", "tenantId", tenantId)
-        .record((long) latency, java.util.concurrent.TimeUnit.MILLISECONDS);
+  public void registerConcurrencyLimitGauges(Supplier<Number> limit, Supplier<Number> inFlight,
+      Supplier<Number> shortRttMillis, Supplier<Number> longRttMillis) {
+    Gauge.builder("router.concurrency.limit", limit).register(meterRegistry);
+    Gauge.builder("router.concurrency.inflight", inFlight).register(meterRegistry);
+    Gauge.builder("router.rtt", shortRttMillis).tag("window", "short").baseUnit("milliseconds").register(meterRegistry);
+    Gauge.builder("router.rtt", longRttMillis).tag("window", "long").baseUnit("milliseconds").register(meterRegistry);
+  }
+
+  /**
+   * Increments the number of routing requests shed because the router was at its concurrency limit.
+   */
+  public void incrementRequestsShed() {
+    meterRegistry.counter("router.requests.shed").increment();
+  }
+
+  /**
+   * Increments the number of times one of a tenant's endpoints was ejected after repeated failures.
+   *
+   * @param tenantId the ID of the tenant
+   */
+  public void incrementEndpointEjections(String tenantId) {
+    tracked(tenantId, meterRegistry.counter("tenant.endpoint.ejections", TENANT_TAG, tenantTag(tenantId)))
+        .increment();
+  }
+
+  /**
+   * Records a hedging decision for a tenant. The hedge rate is {@code sent / tenant.requests.count} and the share of
+   * hedges that paid off is {@code won / sent}.
+   *
+   * @param tenantId the ID of the tenant
+   * @param result "sent" (a hedge was started), "won" (the hedge answered first) or "skipped" (budget exhausted)
+   */
+  public void recordHedge(String tenantId, String result) {
+    tracked(tenantId, meterRegistry.counter("tenant.hedging", TENANT_TAG, tenantTag(tenantId), "result", result))
+        .increment();
+  }
+
+  /**
+   * Records a retry decision for a tenant's failed upstream call.
+   *
+   * @param tenantId the ID of the tenant
+   * @param result "retried", "budget_exhausted" or "deadline" (the backoff would outlast the request deadline)
+   */
+  public void recordRetry(String tenantId, String result) {
+    tracked(tenantId, meterRegistry.counter("tenant.retries", TENANT_TAG, tenantTag(tenantId), "result", result))
+        .increment();
+  }
+
+  /**
+   * Records how long a tenant's upstream call waited for a slot in the fair scheduler; zero when one was free.
+   *
+   * @param tenantId the ID of the tenant
+   * @param waitNanos the time spent queued
+   */
+  public void recordSchedulerQueueWait(String tenantId, long waitNanos) {
+    meters(tenantId).schedulerQueueWait().record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Registers a gauge of the upstream calls waiting in the fair scheduler across all tenants.
+   *
+   * @param queued supplies the number of waiting calls
+   */
+  public void registerSchedulerGauges(Supplier<Number> queued) {
+    Gauge.builder("router.scheduler.queued", queued).register(meterRegistry);
+  }
+
+  /**
+   * Removes the meters of a deleted tenant, so its time series stop being exported.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    if (event.getTenant() != null) {
+      return;
+    }
+    TenantMeters meters = tenantMeters.remove(event.getTenantId());
+    if (meters == null) {
+      // Never tagged, so its calls were recorded in the shared bucket
+      return;
+    }
+    meters.ids().forEach(meterRegistry::remove);
+  }
+
+  private TenantMeters meters(String tenantId) {
+    TenantMeters meters = tenantMeters.get(tenantId);
+    if (meters != null) {
+      return meters;
+    }
+    if (tenantMeters.size() >= properties.getMaxTaggedTenants() || OTHER_TENANTS.equals(tenantId)) {
+      return otherTenantMeters();
+    }
+    return tenantMeters.computeIfAbsent(tenantId, this::createMeters);
+  }
+
+  private <M extends Meter> M tracked(String tenantId, M meter) {
+    TenantMeters meters = meters(tenantId);
+    if (meters != otherTenantMeters) {
+      meters.ids().add(meter.getId());
+    }
+    return meter;
+  }
+
+  private boolean isTagged(String tenantId) {
+    return meters(tenantId) != otherTenantMeters;
+  }
+
+  private String tenantTag(String tenantId) {
+    return isTagged(tenantId) ? tenantId : OTHER_TENANTS;
+  }
+
+  private TenantMeters otherTenantMeters() {
+    TenantMeters meters = otherTenantMeters;
+    if (meters == null) {
+      synchronized (this) {
+        meters = otherTenantMeters;
+        if (meters == null) {
+          meters = createMeters(OTHER_TENANTS);
+          otherTenantMeters = meters;
+        }
+      }
+    }
+    return meters;
+  }
+
+  private TenantMeters createMeters(String tenantTag) {
+    RequestTimings.Stage[] stageValues = RequestTimings.Stage.values();
+    Timer[] stages = new Timer[stageValues.length];
+    for (RequestTimings.Stage stage : stageValues) {
+      stages[stage.ordinal()] = latencyTimer("tenant.request.stage", tenantTag)
+          .tag("stage", stage.metricName())
+          .minimumExpectedValue(Duration.ofNanos(STAGE_MIN_EXPECTED_NANOS))
+          .register(meterRegistry);
+    }
+    TenantMeters meters = new TenantMeters(
+        meterRegistry.counter("tenant.requests.count", TENANT_TAG, tenantTag),
+        latencyTimer("tenant.requests.latency", tenantTag).register(meterRegistry),
+        meterRegistry.timer("tenant.scheduler.queue.wait", TENANT_TAG, tenantTag),
+        stages,
+        ConcurrentHashMap.newKeySet());
+    meters.ids().add(meters.requestCount().getId());
+    meters.ids().add(meters.requestLatency().getId());
+    meters.ids().add(meters.schedulerQueueWait().getId());
+    for (Timer stage : stages) {
+      meters.ids().add(stage.getId());
+    }
+    return meters;
+  }
+
+  private Timer.Builder latencyTimer(String name, String tenantTag) {
+    return Timer.builder(name)
+        .tag(TENANT_TAG, tenantTag)
+        .publishPercentileHistogram(properties.isPercentileHistogram())
+        .serviceLevelObjectives(properties.getServiceLevelObjectives().toArray(Duration[]::new));
+  }
+
+  private record TenantMeters(Counter requestCount, Timer requestLatency, Timer schedulerQueueWait, Timer[] stages,
+      Set<Meter.Id> ids) {
   }
 }
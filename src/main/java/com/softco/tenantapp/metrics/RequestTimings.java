@@ -0,0 +1,208 @@
+package com.softco.tenantapp.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Nanosecond timings of the stages of one routed request, reported to the caller in a {@value #HEADER} header and
+ * recorded per tenant by {@link MetricsService#recordRequestStages}.
+ * <p>
+ * The HTTP client reports connection acquisition and time to first byte through the static methods, for the upstream
+ * call that {@link #upstream} runs on the current thread. When the call is retried or hedged, the attempt that
+ * finished last is kept. Once the request is {@link #complete}, upstream calls still running for it, such as a hedge
+ * that lost, no longer record, so the stages do not change while they are reported. Stages that did not happen, such
+ * as the upstream call of a cached response, stay unmeasured.
+ */
+public class RequestTimings {
+
+  public static final String HEADER = "Server-Timing";
+
+  /**
+   * Request attribute holding the timings of the request being handled, for error responses.
+   */
+  public static final String ATTRIBUTE = RequestTimings.class.getName();
+
+  private static final ThreadLocal<Attempt> CURRENT = new ThreadLocal<>();
+  private static final long UNMEASURED = -1;
+
+  private final long startNanos = System.nanoTime();
+  private final AtomicLongArray nanos = new AtomicLongArray(Stage.values().length);
+  private volatile boolean completed;
+
+  public RequestTimings() {
+    for (int i = 0; i < nanos.length(); i++) {
+      nanos.set(i, UNMEASURED);
+    }
+  }
+
+  /**
+   * Records the duration of a stage, replacing an earlier one.
+   *
+   * @param stage the stage.
+   * @param durationNanos how long it took.
+   */
+  public void record(Stage stage, long durationNanos) {
+    nanos.set(stage.ordinal(), durationNanos);
+  }
+
+  /**
+   * Runs a stage and records how long it took, whether it succeeded or not.
+   *
+   * @param stage the stage.
+   * @param work the work of the stage.
+   * @param <T> the result type.
+   * @return the result of the work.
+   */
+  public <T> T time(Stage stage, Supplier<T> work) {
+    long start = System.nanoTime();
+    try {
+      return work.get();
+    } finally {
+      record(stage, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Marks the routed call as finished. Upstream calls that are still running for it stop recording their stages.
+   */
+  public void complete() {
+    completed = true;
+  }
+
+  /**
+   * Runs an upstream call and records its connection, time to first byte and body stages. The body stage is the time
+   * from the response headers until the call returns, which includes reading and converting the body. A failed call
+   * records the stages it got through, so a timeout shows whether it was spent connecting or waiting for a response.
+   * Nothing is recorded if the request completed before the call returned.
+   *
+   * @param call the call; it must make its HTTP request on the current thread.
+   * @param <T> the result type.
+   * @return the result of the call.
+   */
+  public <T> T upstream(Supplier<T> call) {
+    Attempt previous = CURRENT.get();
+    Attempt attempt = new Attempt();
+    CURRENT.set(attempt);
+    try {
+      return call.get();
+    } finally {
+      if (!completed) {
+        if (attempt.connectionNanos != UNMEASURED) {
+          record(Stage.CONNECTION, attempt.connectionNanos);
+        }
+        if (attempt.headersReceived) {
+          record(Stage.TTFB, attempt.ttfbNanos);
+          record(Stage.BODY, System.nanoTime() - attempt.headersAt);
+        }
+      }
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Returns the duration of a stage.
+   *
+   * @param stage the stage.
+   * @return the duration in nanoseconds, or a negative value if the stage was not measured.
+   */
+  public long nanos(Stage stage) {
+    return nanos.get(stage.ordinal());
+  }
+
+  /**
+   * Renders the measured stages and the time since this object was created as a {@value #HEADER} header value, with
+   * durations in milliseconds, e.g. {@code lookup;dur=0.041, ttfb;dur=12.503, total;dur=13.112}.
+   *
+   * @return the header value.
+   */
+  public String toServerTiming() {
+    long total = System.nanoTime() - startNanos;
+    StringBuilder header = new StringBuilder(128);
+    for (Stage stage : Stage.values()) {
+      long stageNanos = nanos(stage);
+      if (stageNanos >= 0) {
+        appendMetric(header, stage.metricName(), stageNanos).append(", ");
+      }
+    }
+    return appendMetric(header, "total", total).toString();
+  }
+
+  /**
+   * Reports that the HTTP client obtained a connection for the upstream call on the current thread.
+   *
+   * @param durationNanos the time spent leasing the connection from the pool and connecting it if needed.
+   */
+  public static void connectionAcquired(long durationNanos) {
+    Attempt attempt = CURRENT.get();
+    if (attempt != null) {
+      attempt.connectionNanos = durationNanos;
+    }
+  }
+
+  /**
+   * Reports that the response headers of the upstream call on the current thread arrived.
+   *
+   * @param ttfbNanos the time from sending the request to receiving the response headers.
+   */
+  public static void responseHeadersReceived(long ttfbNanos) {
+    Attempt attempt = CURRENT.get();
+    if (attempt != null) {
+      attempt.ttfbNanos = ttfbNanos;
+      attempt.headersAt = System.nanoTime();
+      attempt.headersReceived = true;
+    }
+  }
+
+  private static StringBuilder appendMetric(StringBuilder header, String name, long durationNanos) {
+    long micros = durationNanos / 1000;
+    long fraction = micros % 1000;
+    header.append(name).append(";dur=").append(micros / 1000).append('.');
+    if (fraction < 100) {
+      header.append(fraction < 10 ? "00" : "0");
+    }
+    return header.append(fraction);
+  }
+
+  /**
+   * The stages of a routed request, in the order they happen.
+   */
+  public enum Stage {
+    /** Resolving the tenant from the routing table or the database. */
+    LOOKUP("lookup"),
+    /** Leasing an upstream connection from the pool, including connecting when none was idle. */
+    CONNECTION("connect"),
+    /** From sending the upstream request to receiving its response headers. */
+    TTFB("ttfb"),
+    /** Reading and converting the upstream response body. */
+    BODY("body"),
+    /** Writing the JSON response. */
+    SERIALIZATION("serialize");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+      this.metricName = metricName;
+    }
+
+    /**
+     * Returns the name used in the {@code stage} tag and the {@code Server-Timing} header.
+     *
+     * @return the name.
+     */
+    public String metricName() {
+      return metricName;
+    }
+  }
+
+  private static final class Attempt {
+
+    private long connectionNanos = UNMEASURED;
+    private long ttfbNanos = UNMEASURED;
+    private long headersAt;
+    private boolean headersReceived;
+  }
+}
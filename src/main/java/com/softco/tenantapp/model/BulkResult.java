@@ -0,0 +1,26 @@
+package com.softco.tenantapp.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of one item of a bulk tenant request, written as one NDJSON line.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkResult {
+
+  private String tenantId;
+  private Status status;
+  private String message;
+
+  public enum Status {
+    UPSERTED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+  }
+}
@@ -0,0 +1,15 @@
+package com.softco.tenantapp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScatterRequest {
+
+  private List<String> tenantIds = new ArrayList<>();
+}
@@ -0,0 +1,30 @@
+package com.softco.tenantapp.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.softco.tenantapp.exception.ErrorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of routing a scatter request to one tenant, written as one NDJSON line. Exactly one of {@code data} and
+ * {@code error} is set; {@code status} is the HTTP status {@code GET /api/route} would have answered with.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScatterResult {
+
+  private String tenantId;
+  private int status;
+  private String data;
+  private ErrorResponse error;
+
+  public static ScatterResult success(String tenantId, String data) {
+    return new ScatterResult(tenantId, 200, data, null);
+  }
+
+  public static ScatterResult failure(String tenantId, int status, Exception cause) {
+    return new ScatterResult(tenantId, status, null,
+        new ErrorResponse(cause.getMessage(), cause.getClass().getSimpleName()));
+  }
+}
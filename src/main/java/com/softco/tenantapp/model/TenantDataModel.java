@@ -1,6 +1,8 @@
 package com.softco.tenantapp.model;
 
 import com.softco.tenantapp.entity.TenantDataEntity;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,11 +14,63 @@ public class TenantDataModel {
 
   private String tenantId;
   private String resourceEndpoint;
+  private boolean coalesceRequests;
+  private Integer cacheTtlSeconds;
+  private Integer cacheStaleSeconds;
+  private Long cacheMaxBytes;
+  private Integer circuitFailureRateThreshold;
+  private Integer circuitSlowCallRateThreshold;
+  private Integer circuitSlowCallMillis;
+  private Integer rateLimitPerSecond;
+  private Integer rateLimitBurst;
+  private Integer maxConcurrentCalls;
+  private boolean hedgeRequests;
+  private Integer hedgeBudgetPercent;
+  private Integer maxRetries;
+  private Integer schedulingWeight;
+  private Integer schedulingPriority;
+  private List<TenantEndpointModel> endpoints = new ArrayList<>();
+
+  public TenantDataModel(String tenantId, String resourceEndpoint) {
+    this.tenantId = tenantId;
+    this.resourceEndpoint = resourceEndpoint;
+  }
+
+  /**
+   * Copies this tenant, with its own unmodifiable list of endpoints.
+   *
+   * @return the copy.
+   */
+  public TenantDataModel copy() {
+    List<TenantEndpointModel> endpointsCopy = endpoints == null ? List.of() : endpoints.stream()
+        .map(endpoint -> new TenantEndpointModel(endpoint.getUrl(), endpoint.getWeight()))
+        .toList();
+    return new TenantDataModel(tenantId, resourceEndpoint, coalesceRequests, cacheTtlSeconds, cacheStaleSeconds,
+        cacheMaxBytes, circuitFailureRateThreshold, circuitSlowCallRateThreshold, circuitSlowCallMillis,
+        rateLimitPerSecond, rateLimitBurst, maxConcurrentCalls, hedgeRequests, hedgeBudgetPercent, maxRetries,
+        schedulingWeight, schedulingPriority, endpointsCopy);
+  }
 
   public static TenantDataModel from(TenantDataEntity entity) {
     var tenantDataModel = new TenantDataModel();
     tenantDataModel.setTenantId(entity.getTenantId());
     tenantDataModel.setResourceEndpoint(entity.getResourceEndpoint());
+    tenantDataModel.setCoalesceRequests(entity.isCoalesceRequests());
+    tenantDataModel.setCacheTtlSeconds(entity.getCacheTtlSeconds());
+    tenantDataModel.setCacheStaleSeconds(entity.getCacheStaleSeconds());
+    tenantDataModel.setCacheMaxBytes(entity.getCacheMaxBytes());
+    tenantDataModel.setCircuitFailureRateThreshold(entity.getCircuitFailureRateThreshold());
+    tenantDataModel.setCircuitSlowCallRateThreshold(entity.getCircuitSlowCallRateThreshold());
+    tenantDataModel.setCircuitSlowCallMillis(entity.getCircuitSlowCallMillis());
+    tenantDataModel.setRateLimitPerSecond(entity.getRateLimitPerSecond());
+    tenantDataModel.setRateLimitBurst(entity.getRateLimitBurst());
+    tenantDataModel.setMaxConcurrentCalls(entity.getMaxConcurrentCalls());
+    tenantDataModel.setHedgeRequests(entity.isHedgeRequests());
+    tenantDataModel.setHedgeBudgetPercent(entity.getHedgeBudgetPercent());
+    tenantDataModel.setMaxRetries(entity.getMaxRetries());
+    tenantDataModel.setSchedulingWeight(entity.getSchedulingWeight());
+    tenantDataModel.setSchedulingPriority(entity.getSchedulingPriority());
+    tenantDataModel.setEndpoints(entity.getEndpoints().stream().map(TenantEndpointModel::from).toList());
 
     return tenantDataModel;
   }
@@ -0,0 +1,19 @@
+package com.softco.tenantapp.model;
+
+import com.softco.tenantapp.entity.TenantEndpoint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TenantEndpointModel {
+
+  private String url;
+  private int weight = 1;
+
+  public static TenantEndpointModel from(TenantEndpoint entity) {
+    return new TenantEndpointModel(entity.getUrl(), entity.getWeight());
+  }
+}
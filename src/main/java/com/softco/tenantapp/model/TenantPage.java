@@ -0,0 +1,17 @@
+package com.softco.tenantapp.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * A page of the tenant listing. {@code nextCursor} is passed as {@code after} to fetch the next page and is
+ * {@code null} on the last page.
+ */
+@Data
+@AllArgsConstructor
+public class TenantPage {
+
+  private List<TenantDataModel> tenants;
+  private String nextCursor;
+}
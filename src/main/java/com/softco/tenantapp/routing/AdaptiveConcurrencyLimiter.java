@@ -0,0 +1,114 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.ConcurrencyLimitProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Router-wide concurrency limit that adapts to observed latency, in the style of the gradient algorithm.
+ * <p>
+ * Two exponential moving averages of request latency are kept: a short-term one tracking current conditions and a
+ * long-term one serving as the no-load baseline. Their ratio is the gradient. While latency stays within
+ * {@code rttTolerance} of the baseline the limit grows by roughly its square root per sample; once latency rises the
+ * limit shrinks in proportion, down to half per sample. The limit only grows while at least half of it is in use, so an
+ * idle router does not drift to the maximum.
+ * <p>
+ * The averages and the limit are one immutable state swapped with compare-and-set, so releasing a request takes no
+ * lock. A sample that loses the race to a concurrent one is dropped rather than retried: under that much traffic the
+ * next sample carries the same information.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final ConcurrencyLimitProperties properties;
+  private final MetricsService metricsService;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicReference<State> state;
+
+  public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MetricsService metricsService) {
+    this.properties = properties;
+    this.metricsService = metricsService;
+    this.state = new AtomicReference<>(new State(properties.getInitialLimit(), properties.getInitialLimit(), 0, 0));
+    metricsService.registerConcurrencyLimitGauges(this::getLimit, inFlight::get,
+        () -> state.get().shortRttNanos() / NANOS_PER_MILLI, () -> state.get().longRttNanos() / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Admits a request if fewer than the current limit are in flight.
+   *
+   * @return {@code true} if admitted, in which case {@link #release} must be called once the request completes.
+   */
+  public boolean tryAcquire() {
+    int limit = getLimit();
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        metricsService.incrementRequestsShed();
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases an admitted request and feeds its latency into the limit.
+   *
+   * @param rttNanos how long the request took.
+   */
+  public void release(long rttNanos) {
+    int inFlightBefore = inFlight.getAndDecrement();
+    onSample(rttNanos, inFlightBefore);
+  }
+
+  public int getLimit() {
+    return state.get().limit();
+  }
+
+  int getInFlight() {
+    return inFlight.get();
+  }
+
+  void onSample(long rttNanos, int inFlightAtSample) {
+    State current = state.get();
+    state.compareAndSet(current, next(current, rttNanos, inFlightAtSample));
+  }
+
+  private State next(State current, long rttNanos, int inFlightAtSample) {
+    if (current.longRttNanos() == 0) {
+      return new State(current.estimatedLimit(), current.limit(), rttNanos, rttNanos);
+    }
+    double shortRttNanos = average(current.shortRttNanos(), rttNanos, properties.getShortWindow());
+    double longRttNanos = average(current.longRttNanos(), rttNanos, properties.getLongWindow());
+
+    // Let the baseline recover quickly after a sustained drop in latency
+    if (longRttNanos / shortRttNanos > 2) {
+      longRttNanos *= 0.95;
+    }
+
+    // Only probe for more capacity while the current limit is actually being used
+    double estimatedLimit = current.estimatedLimit();
+    if (inFlightAtSample < estimatedLimit / 2) {
+      return new State(estimatedLimit, current.limit(), shortRttNanos, longRttNanos);
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / shortRttNanos));
+    double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    newLimit = estimatedLimit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+    estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+    return new State(estimatedLimit, (int) estimatedLimit, shortRttNanos, longRttNanos);
+  }
+
+  private static double average(double average, long sample, int window) {
+    double factor = 2.0 / (window + 1);
+    return average * (1 - factor) + sample * factor;
+  }
+
+  private record State(double estimatedLimit, int limit, double shortRttNanos, double longRttNanos) {
+  }
+}
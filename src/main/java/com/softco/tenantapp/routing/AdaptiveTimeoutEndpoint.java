@@ -0,0 +1,25 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.routing.AdaptiveTimeouts.Timeouts;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the upstream timeouts currently applied to every tenant that has been called, at
+ * {@code /actuator/tenanttimeouts}.
+ */
+@Component
+@Endpoint(id = "tenanttimeouts")
+@RequiredArgsConstructor
+public class AdaptiveTimeoutEndpoint {
+
+  private final AdaptiveTimeouts adaptiveTimeouts;
+
+  @ReadOperation
+  public Map<String, Timeouts> tenantTimeouts() {
+    return adaptiveTimeouts.effectiveTimeouts();
+  }
+}
@@ -0,0 +1,149 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.AdaptiveTimeoutProperties;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives each tenant's upstream connect and read timeouts from the latencies in the {@link LatencyTracker}: the
+ * configured percentile plus a margin, clamped to the configured bounds.
+ * <p>
+ * The timeouts of the call running on the current thread are published through {@link #current()}, where the HTTP
+ * client's request factory picks them up. A read timeout never exceeds the time left until the
+ * {@link RequestDeadline}. A connection is part of the call, so the connect timeout follows the same value within its
+ * own bounds. A call that times out is fed back to the {@link LatencyTracker} as a sample longer than its timeout, so a
+ * tenant that slowed down gets a wider timeout instead of failing on its old latencies.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdaptiveTimeouts {
+
+  private static final ThreadLocal<Timeouts> CURRENT = new ThreadLocal<>();
+
+  private final AdaptiveTimeoutProperties properties;
+  private final LatencyTracker latencyTracker;
+  private final Map<String, Timeouts> effective = new ConcurrentHashMap<>();
+
+  /**
+   * Runs an upstream call with the tenant's timeouts.
+   *
+   * @param tenant the tenant being called.
+   * @param call the call; it must make its HTTP request on the current thread.
+   * @param <T> the result type.
+   * @return the result of the call.
+   */
+  public <T> T apply(TenantDataModel tenant, Supplier<T> call) {
+    Timeouts timeouts = timeouts(tenant.getTenantId());
+    if (timeouts == null) {
+      return call.get();
+    }
+    long remaining = Math.max(1, RequestDeadline.remainingMillis());
+    if (remaining < timeouts.readTimeoutMillis()) {
+      timeouts = new Timeouts(Math.min(timeouts.connectTimeoutMillis(), remaining), remaining, timeouts.adaptive());
+    }
+    CURRENT.set(timeouts);
+    long start = System.nanoTime();
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      if (isTimeout(e)) {
+        long given = TimeUnit.MILLISECONDS.toNanos(timeouts.readTimeoutMillis());
+        latencyTracker.recordTimeout(tenant.getTenantId(), Math.max(System.nanoTime() - start, given));
+      }
+      throw e;
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * Computes the tenant's timeouts from its recent latencies.
+   *
+   * @param tenantId the ID of the tenant.
+   * @return the timeouts, or {@code null} when adaptive timeouts are disabled.
+   */
+  public Timeouts timeouts(String tenantId) {
+    if (!properties.isEnabled()) {
+      return null;
+    }
+    long percentile = latencyTracker.percentile(tenantId, properties.getPercentile());
+    Timeouts timeouts;
+    if (percentile < 0) {
+      timeouts = new Timeouts(properties.getMaxConnectTimeout().toMillis(), properties.getMaxReadTimeout().toMillis(),
+          false);
+    } else {
+      long millis = TimeUnit.NANOSECONDS.toMillis(percentile) + properties.getMargin().toMillis();
+      timeouts = new Timeouts(
+          clamp(millis, properties.getMinConnectTimeout().toMillis(), properties.getMaxConnectTimeout().toMillis()),
+          clamp(millis, properties.getMinReadTimeout().toMillis(), properties.getMaxReadTimeout().toMillis()),
+          true);
+    }
+    effective.put(tenantId, timeouts);
+    return timeouts;
+  }
+
+  /**
+   * Returns the timeouts last applied to each tenant that has been called.
+   *
+   * @return the timeouts by tenant ID.
+   */
+  public Map<String, Timeouts> effectiveTimeouts() {
+    return new TreeMap<>(effective);
+  }
+
+  /**
+   * Returns the timeouts of the upstream call running on the current thread.
+   *
+   * @return the timeouts, or {@code null} outside {@link #apply}.
+   */
+  public static Timeouts current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Forgets removed tenants.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    if (event.getTenant() == null) {
+      effective.remove(event.getTenantId());
+    }
+  }
+
+  private static boolean isTimeout(Throwable e) {
+    for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SocketTimeoutException || cause instanceof ConnectTimeoutException
+          || cause instanceof HttpTimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long clamp(long value, long min, long max) {
+    return Math.max(min, Math.min(value, max));
+  }
+
+  /**
+   * Upstream timeouts of a tenant.
+   *
+   * @param connectTimeoutMillis the connect timeout.
+   * @param readTimeoutMillis the read (response) timeout.
+   * @param adaptive whether they were learned, or are the upper bounds because the tenant has too few samples yet.
+   */
+  public record Timeouts(long connectTimeoutMillis, long readTimeoutMillis, boolean adaptive) {
+  }
+}
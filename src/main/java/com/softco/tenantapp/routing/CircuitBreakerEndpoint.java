@@ -0,0 +1,25 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.routing.TenantCircuitBreaker.State;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the circuit state of every tenant that has been called, at
+ * {@code /actuator/circuitbreakers}.
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @ReadOperation
+  public Map<String, State> circuitBreakers() {
+    return circuitBreakerRegistry.states();
+  }
+}
@@ -0,0 +1,120 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.CircuitBreakerProperties;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.ClientStreamException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.routing.TenantCircuitBreaker.State;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Holds one {@link TenantCircuitBreaker} per tenant and runs upstream calls through it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CircuitBreakerRegistry {
+
+  private final CircuitBreakerProperties properties;
+  private final MetricsService metricsService;
+  private final Map<String, TenantCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * Runs an upstream call through the tenant's circuit breaker. Exceptions count as failures, except client errors
+   * (4xx) and failures reading the client's request body, which say nothing about the upstream's health.
+   *
+   * @param tenant the tenant being called.
+   * @param call the upstream call.
+   * @param failedResult tells whether a returned result is a failure, e.g. a passed-through 5xx response.
+   * @param <T> the result type.
+   * @return the result of the call.
+   * @throws CircuitOpenException if the tenant's circuit is open.
+   */
+  public <T> T execute(TenantDataModel tenant, Supplier<T> call, Predicate<T> failedResult) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    TenantCircuitBreaker breaker = forTenant(tenant);
+    if (!breaker.tryAcquirePermission()) {
+      throw new CircuitOpenException("Circuit open for tenant ID " + tenant.getTenantId());
+    }
+    long start = System.nanoTime();
+    boolean failure = true;
+    try {
+      T result = call.get();
+      failure = failedResult.test(result);
+      return result;
+    } catch (HttpClientErrorException | ClientStreamException e) {
+      failure = false;
+      throw e;
+    } finally {
+      breaker.onResult(failure, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Returns the current state of every tenant's circuit, for the {@code circuitbreakers} actuator endpoint.
+   *
+   * @return circuit states by tenant ID, sorted.
+   */
+  public Map<String, State> states() {
+    Map<String, State> states = new TreeMap<>();
+    breakers.forEach((tenantId, breaker) -> states.put(tenantId, breaker.getState()));
+    return states;
+  }
+
+  /**
+   * Drops a tenant's breaker when the tenant changes, so new thresholds apply and a removed tenant holds no state.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    breakers.remove(event.getTenantId());
+  }
+
+  TenantCircuitBreaker forTenant(TenantDataModel tenant) {
+    return breakers.computeIfAbsent(tenant.getTenantId(), tenantId -> create(tenant));
+  }
+
+  private TenantCircuitBreaker create(TenantDataModel tenant) {
+    String tenantId = tenant.getTenantId();
+    long slowCallNanos = tenant.getCircuitSlowCallMillis() != null
+        ? TimeUnit.MILLISECONDS.toNanos(tenant.getCircuitSlowCallMillis())
+        : properties.getSlowCallDurationThreshold().toNanos();
+    metricsService.registerCircuitState(tenantId, () -> stateCode(tenantId));
+    return new TenantCircuitBreaker(
+        valueOrDefault(tenant.getCircuitFailureRateThreshold(), properties.getFailureRateThreshold()),
+        valueOrDefault(tenant.getCircuitSlowCallRateThreshold(), properties.getSlowCallRateThreshold()),
+        slowCallNanos,
+        properties.getMinimumNumberOfCalls(),
+        properties.getWindowSize(),
+        properties.getOpenDuration().toNanos(),
+        properties.getHalfOpenPermittedCalls(),
+        (from, to) -> {
+          log.warn("Circuit for tenant ID: {} changed from {} to {}", tenantId, from, to);
+          metricsService.recordCircuitTransition(tenantId, from.name(), to.name());
+        });
+  }
+
+  private int stateCode(String tenantId) {
+    TenantCircuitBreaker breaker = breakers.get(tenantId);
+    return breaker != null ? breaker.getState().ordinal() : State.CLOSED.ordinal();
+  }
+
+  private static int valueOrDefault(Integer value, int defaultValue) {
+    return value != null ? value : defaultValue;
+  }
+}
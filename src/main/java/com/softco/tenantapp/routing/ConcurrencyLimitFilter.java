@@ -0,0 +1,84 @@
+package com.softco.tenantapp.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softco.tenantapp.exception.ErrorResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds routing requests above the {@link AdaptiveConcurrencyLimiter}'s current limit. Rejected requests get a 503
+ * written by the filter itself, before tenant lookup, rate limiting or any upstream work.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private static final String OVERLOADED_MESSAGE = "Router is overloaded, retry later";
+
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!limiter.tryAcquire()) {
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(OVERLOADED_MESSAGE, "LoadShedding"));
+      return;
+    }
+
+    long start = System.nanoTime();
+    AtomicBoolean released = new AtomicBoolean();
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        limiter.release(System.nanoTime() - start);
+      }
+    };
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (request.isAsyncStarted()) {
+        // Reactive mode completes the request later; release when the response is actually done
+        request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+      } else {
+        release.run();
+      }
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static final class ReleasingAsyncListener implements AsyncListener {
+
+    private final Runnable release;
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      release.run();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.LoadBalancerProperties;
+import com.softco.tenantapp.exception.ClientStreamException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Spreads a tenant's calls over its weighted endpoints.
+ * <p>
+ * Selection uses weighted power of two choices: two endpoints are drawn at random in proportion to their weight and
+ * the one with fewer outstanding requests per unit of weight wins. An endpoint that fails
+ * {@code consecutiveFailures} calls in a row is ejected for {@code ejectionDuration}; if every endpoint is ejected,
+ * all of them are eligible again rather than failing the tenant outright. Tenants without endpoints are called at
+ * their {@code resourceEndpoint}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EndpointBalancer {
+
+  private final LoadBalancerProperties properties;
+  private final MetricsService metricsService;
+  private final Map<String, Endpoint[]> pools = new ConcurrentHashMap<>();
+
+  /**
+   * Runs a call against one of the tenant's endpoints.
+   *
+   * @param tenant the tenant being called.
+   * @param call the call, given the base URL of the selected endpoint.
+   * @param failedResult tells whether a returned result is a failure, e.g. a passed-through 5xx response. Client
+   *     errors (4xx) and failures of the client's own connection are never counted against the endpoint.
+   * @param <T> the result type.
+   * @return the result of the call.
+   */
+  public <T> T execute(TenantDataModel tenant, Function<String, T> call, Predicate<T> failedResult) {
+    return execute(tenant, call, failedResult, null);
+  }
+
+  /**
+   * Runs a call against one of the tenant's endpoints other than the given one, e.g. to hedge a slow call on a
+   * different replica. Falls back to the excluded endpoint only when it is the tenant's only one.
+   *
+   * @param tenant the tenant being called.
+   * @param call the call, given the base URL of the selected endpoint.
+   * @param failedResult tells whether a returned result is a failure.
+   * @param excludedUrl the endpoint to avoid; {@code null} to consider all.
+   * @param <T> the result type.
+   * @return the result of the call.
+   */
+  public <T> T execute(TenantDataModel tenant, Function<String, T> call, Predicate<T> failedResult,
+      String excludedUrl) {
+    List<TenantEndpointModel> endpoints = tenant.getEndpoints();
+    if (endpoints == null || endpoints.isEmpty()) {
+      return call.apply(tenant.getResourceEndpoint());
+    }
+    Endpoint[] pool = pools.computeIfAbsent(tenant.getTenantId(), tenantId -> createPool(endpoints));
+    Endpoint endpoint = excludedUrl == null ? select(pool) : selectOther(pool, excludedUrl);
+    endpoint.outstanding.incrementAndGet();
+    boolean failure = true;
+    try {
+      T result = call.apply(endpoint.url);
+      failure = failedResult.test(result);
+      return result;
+    } catch (HttpClientErrorException | ClientStreamException e) {
+      failure = false;
+      throw e;
+    } finally {
+      endpoint.outstanding.decrementAndGet();
+      onResult(tenant.getTenantId(), endpoint, failure);
+    }
+  }
+
+  /**
+   * Drops the tenant's pool when the tenant changes, so edited endpoint lists apply.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    pools.remove(event.getTenantId());
+  }
+
+  Endpoint select(Endpoint[] pool) {
+    if (pool.length == 1) {
+      return pool[0];
+    }
+    long now = System.nanoTime();
+    int totalWeight = 0;
+    for (Endpoint endpoint : pool) {
+      totalWeight += endpoint.eligibleWeight(now);
+    }
+    boolean panic = totalWeight == 0;
+    if (panic) {
+      for (Endpoint endpoint : pool) {
+        totalWeight += endpoint.weight;
+      }
+    }
+    Endpoint first = pick(pool, totalWeight, now, panic);
+    Endpoint second = pick(pool, totalWeight, now, panic);
+    // Compare outstanding / weight without division
+    return (long) second.outstanding.get() * first.weight < (long) first.outstanding.get() * second.weight
+        ? second
+        : first;
+  }
+
+  private Endpoint selectOther(Endpoint[] pool, String excludedUrl) {
+    for (int attempt = 0; attempt < 3; attempt++) {
+      Endpoint endpoint = select(pool);
+      if (!endpoint.url.equals(excludedUrl)) {
+        return endpoint;
+      }
+    }
+    for (Endpoint endpoint : pool) {
+      if (!endpoint.url.equals(excludedUrl)) {
+        return endpoint;
+      }
+    }
+    return pool[0];
+  }
+
+  private Endpoint pick(Endpoint[] pool, int totalWeight, long now, boolean panic) {
+    int target = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Endpoint endpoint : pool) {
+      target -= panic ? endpoint.weight : endpoint.eligibleWeight(now);
+      if (target < 0) {
+        return endpoint;
+      }
+    }
+    return pool[pool.length - 1];
+  }
+
+  private void onResult(String tenantId, Endpoint endpoint, boolean failure) {
+    if (!failure) {
+      endpoint.consecutiveFailures.set(0);
+      return;
+    }
+    if (endpoint.consecutiveFailures.incrementAndGet() >= properties.getConsecutiveFailures()) {
+      endpoint.consecutiveFailures.set(0);
+      endpoint.ejectedUntil = System.nanoTime() + properties.getEjectionDuration().toNanos();
+      log.warn("Ejected endpoint {} of tenant ID: {} for {}", endpoint.url, tenantId, properties.getEjectionDuration());
+      metricsService.incrementEndpointEjections(tenantId);
+    }
+  }
+
+  private static Endpoint[] createPool(List<TenantEndpointModel> endpoints) {
+    return endpoints.stream()
+        .map(endpoint -> new Endpoint(endpoint.getUrl(), Math.max(1, endpoint.getWeight())))
+        .toArray(Endpoint[]::new);
+  }
+
+  static final class Endpoint {
+
+    private final String url;
+    private final int weight;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long ejectedUntil;
+
+    Endpoint(String url, int weight) {
+      this.url = url;
+      this.weight = weight;
+      this.ejectedUntil = System.nanoTime();
+    }
+
+    private int eligibleWeight(long now) {
+      return now - ejectedUntil < 0 ? 0 : weight;
+    }
+
+    String url() {
+      return url;
+    }
+
+    AtomicInteger outstanding() {
+      return outstanding;
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.SchedulerProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares the router's upstream call slots between tenants with deficit round-robin once they are all taken.
+ * <p>
+ * While a slot is free, calls start at once. Otherwise each call waits in its tenant's queue. Freed slots go to the
+ * highest priority class with waiting calls (0 high, 1 normal, 2 low); within a class, tenants take turns and each
+ * turn serves up to {@code schedulingWeight} calls of the tenant. A tenant sending far more traffic than the others
+ * therefore only lengthens its own queue. Enqueueing and handing over a slot are constant time under one lock.
+ * Calls that gave up waiting stay in their queue and are skipped when reached.
+ */
+@Component
+public class FairScheduler {
+
+  static final int PRIORITY_CLASSES = 3;
+  private static final int DEFAULT_PRIORITY = 1;
+
+  private final SchedulerProperties properties;
+  private final MetricsService metricsService;
+  private final Map<String, TenantQueue> queues = new ConcurrentHashMap<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  @SuppressWarnings("unchecked")
+  private final ArrayDeque<TenantQueue>[] activeQueues = new ArrayDeque[PRIORITY_CLASSES];
+  private int availableSlots;
+  private int queued;
+
+  public FairScheduler(SchedulerProperties properties, MetricsService metricsService) {
+    this.properties = properties;
+    this.metricsService = metricsService;
+    for (int i = 0; i < PRIORITY_CLASSES; i++) {
+      activeQueues[i] = new ArrayDeque<>();
+    }
+    this.availableSlots = properties.getMaxConcurrentCalls();
+    metricsService.registerSchedulerGauges(this::queued);
+  }
+
+  /**
+   * Runs an upstream call once the tenant gets a slot.
+   *
+   * @param tenant the tenant being called.
+   * @param call the upstream call.
+   * @param <T> the result type.
+   * @return the result of the call.
+   * @throws BulkheadFullException if the queue is full or the call waited longer than {@code maxWait}.
+   */
+  public <T> T execute(TenantDataModel tenant, Supplier<T> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    long start = System.nanoTime();
+    boolean admitted = acquire(tenant, properties.getMaxWait().toNanos());
+    metricsService.recordSchedulerQueueWait(tenant.getTenantId(), System.nanoTime() - start);
+    if (!admitted) {
+      throw new BulkheadFullException("Router is saturated, no upstream slot for tenant ID " + tenant.getTenantId());
+    }
+    try {
+      return call.get();
+    } finally {
+      release();
+    }
+  }
+
+  /**
+   * Starts a new queue for the tenant when it changes, so a new weight or priority applies to subsequent calls. Calls
+   * already waiting are served from the old queue.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    queues.remove(event.getTenantId());
+  }
+
+  boolean acquire(TenantDataModel tenant, long maxWaitNanos) {
+    TenantQueue queue = queues.computeIfAbsent(tenant.getTenantId(), tenantId -> newQueue(tenant));
+    lock.lock();
+    try {
+      if (availableSlots > 0 && queued == 0) {
+        availableSlots--;
+        return true;
+      }
+      if (queued >= properties.getMaxQueueDepth()) {
+        return false;
+      }
+      Waiter waiter = new Waiter(lock.newCondition());
+      queue.waiters.addLast(waiter);
+      queued++;
+      if (!queue.active) {
+        queue.active = true;
+        queue.deficit = 0;
+        activeQueues[queue.priority].addLast(queue);
+      }
+      long remainingNanos = maxWaitNanos;
+      while (!waiter.granted) {
+        if (remainingNanos <= 0) {
+          waiter.cancelled = true;
+          queued--;
+          return false;
+        }
+        try {
+          remainingNanos = waiter.ready.awaitNanos(remainingNanos);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          remainingNanos = 0;
+        }
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void release() {
+    lock.lock();
+    try {
+      Waiter next = nextWaiter();
+      if (next == null) {
+        availableSlots++;
+      } else {
+        // Hand the slot straight over, so a newly arriving call cannot take it first
+        next.granted = true;
+        queued--;
+        next.ready.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int queued() {
+    lock.lock();
+    try {
+      return queued;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Waiter nextWaiter() {
+    for (ArrayDeque<TenantQueue> ring : activeQueues) {
+      while (!ring.isEmpty()) {
+        TenantQueue queue = ring.peekFirst();
+        Waiter waiter = queue.waiters.pollFirst();
+        if (waiter == null) {
+          ring.pollFirst();
+          queue.active = false;
+          continue;
+        }
+        if (waiter.cancelled) {
+          continue;
+        }
+        if (queue.deficit <= 0) {
+          queue.deficit += queue.weight;
+        }
+        queue.deficit--;
+        if (queue.waiters.isEmpty()) {
+          ring.pollFirst();
+          queue.active = false;
+        } else if (queue.deficit <= 0) {
+          // Turn used up: go to the back of the ring
+          ring.addLast(ring.pollFirst());
+        }
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  private TenantQueue newQueue(TenantDataModel tenant) {
+    int weight = tenant.getSchedulingWeight() != null && tenant.getSchedulingWeight() > 0
+        ? tenant.getSchedulingWeight()
+        : properties.getDefaultWeight();
+    int priority = tenant.getSchedulingPriority() != null
+        ? Math.max(0, Math.min(tenant.getSchedulingPriority(), PRIORITY_CLASSES - 1))
+        : DEFAULT_PRIORITY;
+    return new TenantQueue(weight, priority);
+  }
+
+  private static final class TenantQueue {
+
+    private final int weight;
+    private final int priority;
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private int deficit;
+    private boolean active;
+
+    TenantQueue(int weight, int priority) {
+      this.weight = weight;
+      this.priority = priority;
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Condition ready;
+    private boolean granted;
+    private boolean cancelled;
+
+    Waiter(Condition ready) {
+      this.ready = ready;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.softco.tenantapp.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softco.tenantapp.config.RoutingTableProperties;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the most recent upstream call latencies of each tenant and answers percentile queries over them.
+ * <p>
+ * Samples go into a fixed ring buffer per tenant, so recording is a single atomic increment and store. Percentiles are
+ * read from a sorted copy of the buffer that is refreshed once per second or after a quarter of the buffer has been
+ * overwritten, which keeps queries cheap enough to make on every request.
+ * <p>
+ * Calls that time out have no latency, but leaving them out would let a tenant that slowed down past its adaptive
+ * timeout keep timing out on stale samples forever. They are recorded through {@link #recordTimeout} instead.
+ * <p>
+ * Windows are kept for as many tenants as the routing table holds, and dropped once a tenant has not been called for
+ * as long as a routing table entry lives, so the tracker does not grow with the number of tenants ever routed.
+ */
+@Component
+public class LatencyTracker {
+
+  static final int WINDOW_SIZE = 256;
+  static final int MIN_SAMPLES = 20;
+  private static final long REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Cache<String, Window> windows;
+
+  public LatencyTracker(RoutingTableProperties properties) {
+    this.windows = Caffeine.newBuilder()
+        .maximumSize(properties.getMaxSize())
+        .expireAfterAccess(properties.getExpireAfterWrite())
+        .build();
+  }
+
+  /**
+   * Records the latency of a successful upstream call.
+   *
+   * @param tenantId the ID of the tenant.
+   * @param latencyNanos the call duration.
+   */
+  public void record(String tenantId, long latencyNanos) {
+    windows.get(tenantId, id -> new Window()).record(latencyNanos);
+  }
+
+  /**
+   * Records an upstream call that timed out. Its latency is only known to be at least {@code atLeastNanos}; it is
+   * recorded as twice that, and percentiles are recomputed on the next query, so the tenant's timeout roughly doubles
+   * with each timeout until its calls complete again.
+   *
+   * @param tenantId the ID of the tenant.
+   * @param atLeastNanos the time the call was given, or waited if longer.
+   */
+  public void recordTimeout(String tenantId, long atLeastNanos) {
+    Window window = windows.get(tenantId, id -> new Window());
+    window.record(2 * atLeastNanos);
+    window.invalidate();
+  }
+
+  /**
+   * Returns a latency percentile over the tenant's recent calls.
+   *
+   * @param tenantId the ID of the tenant.
+   * @param percentile the percentile, between 0 and 1 (e.g. 0.95).
+   * @return the latency in nanoseconds, or {@code -1} while fewer than {@value #MIN_SAMPLES} calls have been recorded.
+   */
+  public long percentile(String tenantId, double percentile) {
+    Window window = windows.getIfPresent(tenantId);
+    return window != null ? window.percentile(percentile, System.nanoTime()) : -1;
+  }
+
+  /**
+   * Forgets removed tenants. Tenants whose configuration changed keep their samples, since their upstream is usually
+   * the same.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    if (event.getTenant() == null) {
+      windows.invalidate(event.getTenantId());
+    }
+  }
+
+  private static final class Window {
+
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong count = new AtomicLong();
+    private volatile long[] sorted;
+    private volatile long sortedAt;
+    private volatile long sortedCount;
+
+    void record(long latencyNanos) {
+      samples.set((int) (count.getAndIncrement() % WINDOW_SIZE), latencyNanos);
+    }
+
+    void invalidate() {
+      sorted = null;
+    }
+
+    long percentile(double percentile, long now) {
+      long recorded = count.get();
+      if (recorded < MIN_SAMPLES) {
+        return -1;
+      }
+      long[] snapshot = sorted;
+      if (snapshot == null || now - sortedAt > REFRESH_NANOS || recorded - sortedCount >= WINDOW_SIZE / 4) {
+        // Racing refreshes only duplicate work; each publishes a consistent sorted copy
+        snapshot = new long[(int) Math.min(recorded, WINDOW_SIZE)];
+        for (int i = 0; i < snapshot.length; i++) {
+          snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        sorted = snapshot;
+        sortedAt = now;
+        sortedCount = recorded;
+      }
+      int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+      return snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.MissingHeaderException;
+import com.softco.tenantapp.model.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping(value = "/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tenant.routing.mode", havingValue = "reactive")
+public class ReactiveRoutingController {
+
+  private final ReactiveRoutingService reactiveRoutingService;
+
+  /**
+   * Routes a GET request to the tenant-specific endpoint without holding a servlet thread while the tenant responds.
+   *
+   * @param tenantId the unique ID of the tenant (provided in the "X-Tenant-ID" header).
+   * @return a {@link Mono} emitting an {@link ApiResponse} containing the response body as a string.
+   * @throws MissingHeaderException if the "X-Tenant-ID" header is missing.
+   */
+  @GetMapping("/route")
+  public Mono<ApiResponse<String>> routeRequest(
+      @RequestHeader(value = "X-Tenant-ID", required = false) String tenantId) {
+    if (tenantId == null || tenantId.isEmpty()) {
+      throw new MissingHeaderException("Missing required header: X-Tenant-ID");
+    }
+    return reactiveRoutingService.routeRequest(tenantId);
+  }
+}
@@ -0,0 +1,65 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.RequestProcessingException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.ApiResponse;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tenant.routing.mode", havingValue = "reactive")
+public class ReactiveRoutingService {
+
+  private final TenantDataService tenantDataService;
+  private final WebClient webClient;
+  private final MetricsService metricsService;
+  private final TenantRateLimiter tenantRateLimiter;
+
+  /**
+   * Routes a GET request to the tenant-specific endpoint on the event loop.
+   * <p>
+   * The tenant lookup and rate limiting happen on the calling thread, so unknown and throttled tenants fail exactly as
+   * in blocking mode; the upstream call itself never blocks a thread.
+   *
+   * @param tenantId the unique ID of the tenant for which the request is being routed.
+   * @return a {@link Mono} emitting an {@link ApiResponse} containing the response body as a string.
+   * @throws RuntimeException if the tenant data is not found or the tenant is over its rate limit; upstream failures
+   *     are signalled as a {@link RequestProcessingException} error.
+   */
+  public Mono<ApiResponse<String>> routeRequest(String tenantId) {
+    log.debug("Routing request for tenant ID: {}", tenantId);
+
+    // Fetch tenant data
+    TenantDataModel tenantData = tenantDataService.getTenantById(tenantId);
+    tenantRateLimiter.acquire(tenantData); // Reject before any work if the tenant is over its rate
+
+    metricsService.incrementTenantRequestCount(tenantId); // Record request count
+
+    return Mono.defer(() -> {
+      long startTime = System.nanoTime(); // Start measuring latency once subscribed
+      log.debug("Making GET request to endpoint: {}", tenantData.getResourceEndpoint());
+      return webClient.get()
+          .uri(tenantData.getResourceEndpoint())
+          .retrieve()
+          .toEntity(String.class)
+          .map(response -> {
+            long latency = System.nanoTime() - startTime;
+            metricsService.recordTenantRequestLatency(tenantId, latency); // Record latency
+
+            log.info("Request successfully routed for tenant ID: {}, Response: {}", tenantId, response.getBody());
+            return new ApiResponse<>(response.getBody());
+          });
+    }).onErrorMap(e -> !(e instanceof RequestProcessingException), e -> {
+      log.error("Routing failed for tenant ID: {}, Error: {}", tenantId, e.getMessage(), e);
+      return new RequestProcessingException("Routing failed for tenant ID " + tenantId + ": " + e.getMessage(), e);
+    });
+  }
+}
@@ -0,0 +1,85 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.metrics.MetricsService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight execution of identical idempotent upstream calls.
+ * <p>
+ * The first caller for a key performs the call; callers arriving while it is in flight wait for and share its
+ * result, or its failure. A waiting caller gives up when its own {@link RequestDeadline} passes. Nothing is cached once
+ * the call completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+  private final ConcurrentHashMap<String, CompletableFuture<ResponseEntity<String>>> inFlight =
+      new ConcurrentHashMap<>();
+  private final MetricsService metricsService;
+
+  /**
+   * Executes the upstream call unless an identical one is already in flight, in which case its result is shared.
+   *
+   * @param tenantId the unique ID of the tenant the call is made for.
+   * @param url the upstream URL; together with the tenant ID it identifies identical calls.
+   * @param upstreamCall the call to perform if this caller is the first one.
+   * @return the upstream response.
+   * @throws DeadlineExceededException if the request deadline passed while waiting for an identical call.
+   */
+  public ResponseEntity<String> execute(String tenantId, String url, Supplier<ResponseEntity<String>> upstreamCall) {
+    String key = tenantId + ' ' + url;
+    var call = new CompletableFuture<ResponseEntity<String>>();
+    var existing = inFlight.putIfAbsent(key, call);
+    if (existing != null) {
+      metricsService.recordRequestCoalescing(tenantId, true);
+      return await(tenantId, existing);
+    }
+
+    metricsService.recordRequestCoalescing(tenantId, false);
+    try {
+      ResponseEntity<String> response = upstreamCall.get();
+      call.complete(response);
+      return response;
+    } catch (Throwable e) {
+      // Errors too, or the callers waiting on this call would never be released
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private ResponseEntity<String> await(String tenantId, CompletableFuture<ResponseEntity<String>> call) {
+    long remaining = RequestDeadline.remainingMillis();
+    try {
+      return remaining == Long.MAX_VALUE ? call.get() : call.get(remaining, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (TimeoutException e) {
+      throw new DeadlineExceededException("Request deadline exceeded for tenant ID " + tenantId);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for upstream call", e);
+    }
+  }
+}
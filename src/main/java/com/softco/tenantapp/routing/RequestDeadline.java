@@ -0,0 +1,95 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The deadline of the routing request handled by the current thread, taken from the caller's
+ * {@value #HEADER} header.
+ * <p>
+ * The header carries the milliseconds the caller is still willing to wait, rather than a wall clock time, so clock
+ * skew between hosts does not matter. The remaining time is forwarded upstream in the same header and bounds retries.
+ * Threads without a deadline behave as if they had unlimited time.
+ */
+public final class RequestDeadline {
+
+  public static final String HEADER = "X-Request-Deadline-Ms";
+
+  private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+  private RequestDeadline() {
+  }
+
+  /**
+   * Starts a deadline for the current thread.
+   *
+   * @param timeoutMillis milliseconds from now.
+   */
+  public static void startIn(long timeoutMillis) {
+    DEADLINE_NANOS.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+  }
+
+  /**
+   * Returns the current thread's raw deadline, to hand it to another thread with {@link #restore}.
+   *
+   * @return the deadline in {@link System#nanoTime()} terms, or {@code null} if there is none.
+   */
+  public static Long current() {
+    return DEADLINE_NANOS.get();
+  }
+
+  /**
+   * Sets the current thread's deadline to one captured with {@link #current}, or clears it when {@code null}.
+   *
+   * @param deadlineNanos the captured deadline.
+   */
+  public static void restore(Long deadlineNanos) {
+    if (deadlineNanos == null) {
+      DEADLINE_NANOS.remove();
+    } else {
+      DEADLINE_NANOS.set(deadlineNanos);
+    }
+  }
+
+  public static void clear() {
+    DEADLINE_NANOS.remove();
+  }
+
+  /**
+   * Returns the time left until the deadline.
+   *
+   * @return the remaining milliseconds, {@code 0} once expired, or {@link Long#MAX_VALUE} without a deadline.
+   */
+  public static long remainingMillis() {
+    Long deadline = DEADLINE_NANOS.get();
+    if (deadline == null) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+  }
+
+  /**
+   * Fails fast when the caller has already given up.
+   *
+   * @param tenantId the tenant being routed, for the error message.
+   * @throws DeadlineExceededException if the deadline has passed.
+   */
+  public static void checkNotExpired(String tenantId) {
+    if (remainingMillis() == 0) {
+      throw new DeadlineExceededException("Request deadline exceeded for tenant ID " + tenantId);
+    }
+  }
+
+  /**
+   * Adds the remaining time to an upstream request, if the current request has a deadline.
+   *
+   * @param headers the upstream request headers.
+   */
+  public static void propagate(HttpHeaders headers) {
+    long remaining = remainingMillis();
+    if (remaining != Long.MAX_VALUE) {
+      headers.set(HEADER, Long.toString(remaining));
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.softco.tenantapp.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the {@link RequestDeadline} of a routing request from its {@value RequestDeadline#HEADER} header. Missing or
+ * malformed values leave the request without a deadline.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String header = request.getHeader(RequestDeadline.HEADER);
+    if (header != null) {
+      try {
+        RequestDeadline.startIn(Math.max(0, Long.parseLong(header.trim())));
+      } catch (NumberFormatException e) {
+        logger.debug("Ignoring malformed " + RequestDeadline.HEADER + " header: " + header);
+      }
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestDeadline.clear();
+    }
+  }
+}
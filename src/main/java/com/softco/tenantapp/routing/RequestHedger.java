@@ -0,0 +1,217 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.HedgingProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a tenant's upstream call through the {@link EndpointBalancer}, hedging it for tenants that opted in.
+ * <p>
+ * A hedged call is started on a worker thread. If it has not answered within the tenant's recent latency percentile,
+ * a second call goes to another endpoint and whichever succeeds first is returned; the other is cancelled, which
+ * interrupts its thread but cannot always abort a blocking socket read. Hedges draw on a per-tenant budget of
+ * {@code hedgeBudgetPercent} of the tenant's calls, so a slow upstream is never sent more than that much extra load.
+ * <p>
+ * Successful call latencies of every tenant are recorded in the {@link LatencyTracker}.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+  private static final int MAX_BUDGET_TOKENS = 10;
+
+  private final HedgingProperties properties;
+  private final EndpointBalancer endpointBalancer;
+  private final LatencyTracker latencyTracker;
+  private final MetricsService metricsService;
+  private final ThreadPoolTaskExecutor hedgeExecutor;
+  private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+
+  public RequestHedger(HedgingProperties properties, EndpointBalancer endpointBalancer, LatencyTracker latencyTracker,
+      MetricsService metricsService, ThreadPoolTaskExecutorBuilder taskExecutorBuilder) {
+    this.properties = properties;
+    this.endpointBalancer = endpointBalancer;
+    this.latencyTracker = latencyTracker;
+    this.metricsService = metricsService;
+    this.hedgeExecutor = taskExecutorBuilder
+        .corePoolSize(properties.getThreads())
+        .maxPoolSize(properties.getThreads())
+        .queueCapacity(0)
+        .threadNamePrefix("tenant-hedge-")
+        .build();
+    this.hedgeExecutor.initialize();
+  }
+
+  /**
+   * Performs an upstream call for the tenant.
+   *
+   * @param tenant the tenant being called.
+   * @param call the call, given the base URL of the selected endpoint.
+   * @param <T> the result type.
+   * @return the result of the call, or of its hedge if that answered first.
+   */
+  public <T> T execute(TenantDataModel tenant, Function<String, T> call) {
+    String tenantId = tenant.getTenantId();
+    long delayNanos = tenant.isHedgeRequests() ? hedgeDelayNanos(tenantId) : -1;
+    if (delayNanos < 0) {
+      return timed(tenantId, () -> endpointBalancer.execute(tenant, call, result -> false));
+    }
+
+    TokenBudget budget = budgets.computeIfAbsent(tenantId, id -> new TokenBudget(budgetRatio(tenant),
+        MAX_BUDGET_TOKENS));
+    budget.deposit();
+
+    AtomicReference<String> primaryUrl = new AtomicReference<>();
+    Attempt<T> primary = start(tenantId, () -> endpointBalancer.execute(tenant, url -> {
+      primaryUrl.set(url);
+      return call.apply(url);
+    }, result -> false, null));
+    if (primary == null) {
+      // All hedging threads are busy: call on the request thread without a hedge
+      return timed(tenantId, () -> endpointBalancer.execute(tenant, call, result -> false));
+    }
+
+    try {
+      return primary.result.get(delayNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      // Slower than usual: hedge below
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      primary.task.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for tenant ID " + tenantId, e);
+    }
+
+    Attempt<T> hedge = budget.tryWithdraw()
+        ? start(tenantId, () -> endpointBalancer.execute(tenant, call, result -> false, primaryUrl.get()))
+        : null;
+    if (hedge == null) {
+      metricsService.recordHedge(tenantId, "skipped");
+      return await(primary.result);
+    }
+    metricsService.recordHedge(tenantId, "sent");
+    return firstSuccess(tenantId, primary, hedge);
+  }
+
+  /**
+   * Drops the tenant's hedge budget when the tenant changes, so a new {@code hedgeBudgetPercent} applies.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    budgets.remove(event.getTenantId());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    hedgeExecutor.shutdown();
+  }
+
+  private long hedgeDelayNanos(String tenantId) {
+    long percentile = latencyTracker.percentile(tenantId, properties.getPercentile());
+    return percentile < 0 ? -1 : Math.max(percentile, properties.getMinDelay().toNanos());
+  }
+
+  private double budgetRatio(TenantDataModel tenant) {
+    Integer percent = tenant.getHedgeBudgetPercent();
+    return (percent != null ? percent : properties.getDefaultBudgetPercent()) / 100.0;
+  }
+
+  private <T> T firstSuccess(String tenantId, Attempt<T> primary, Attempt<T> hedge) {
+    CompletableFuture<T> winner = new CompletableFuture<>();
+    AtomicInteger failures = new AtomicInteger();
+    primary.result.whenComplete((result, error) -> complete(winner, failures, result, error));
+    hedge.result.whenComplete((result, error) -> complete(winner, failures, result, error));
+
+    T result = await(winner);
+    boolean hedgeWon = hedge.result.isDone() && !hedge.result.isCompletedExceptionally()
+        && hedge.result.getNow(null) == result;
+    if (hedgeWon) {
+      metricsService.recordHedge(tenantId, "won");
+      primary.task.cancel(true);
+    } else {
+      hedge.task.cancel(true);
+    }
+    return result;
+  }
+
+  private static <T> void complete(CompletableFuture<T> winner, AtomicInteger failures, T result, Throwable error) {
+    if (error == null) {
+      winner.complete(result);
+    } else if (failures.incrementAndGet() == 2) {
+      winner.completeExceptionally(error);
+    }
+  }
+
+  private <T> Attempt<T> start(String tenantId, Supplier<T> call) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Long deadline = RequestDeadline.current();
+    try {
+      Future<?> task = hedgeExecutor.submit(() -> {
+        RequestDeadline.restore(deadline);
+        try {
+          result.complete(timed(tenantId, call));
+        } catch (Throwable e) {
+          result.completeExceptionally(e);
+        } finally {
+          RequestDeadline.clear();
+        }
+      });
+      return new Attempt<>(result, task);
+    } catch (TaskRejectedException e) {
+      return null;
+    }
+  }
+
+  private <T> T timed(String tenantId, Supplier<T> call) {
+    long start = System.nanoTime();
+    T result = call.get();
+    latencyTracker.record(tenantId, System.nanoTime() - start);
+    return result;
+  }
+
+  private static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for upstream call", e);
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(cause.getMessage(), cause);
+  }
+
+  private record Attempt<T>(CompletableFuture<T> result, Future<?> task) {
+  }
+}
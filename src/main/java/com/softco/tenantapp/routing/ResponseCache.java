@@ -0,0 +1,328 @@
+package com.softco.tenantapp.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.softco.tenantapp.config.ResponseCacheProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant cache of upstream GET responses.
+ * <p>
+ * Each tenant that sets {@code cacheTtlSeconds} gets its own cache bounded by {@code cacheMaxBytes}, evicting by
+ * frequency and recency (W-TinyLFU). Upstream {@code Cache-Control} wins over the tenant TTL: {@code no-store} and
+ * {@code private} responses are never stored, {@code no-cache} forces revalidation, and {@code max-age},
+ * {@code s-maxage} and {@code stale-while-revalidate} set the freshness and stale windows. Expired entries are
+ * revalidated with {@code If-None-Match}/{@code If-Modified-Since}; within the stale window the stale body is served
+ * immediately while a single background refresh runs.
+ */
+@Slf4j
+@Component
+public class ResponseCache {
+
+  private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+  private final ResponseCacheProperties properties;
+  private final MetricsService metricsService;
+  private final ThreadPoolTaskExecutor refreshExecutor;
+  private final Map<String, Cache<String, CachedResponse>> tenantCaches = new ConcurrentHashMap<>();
+
+  public ResponseCache(ResponseCacheProperties properties, MetricsService metricsService,
+      ThreadPoolTaskExecutorBuilder taskExecutorBuilder) {
+    this.properties = properties;
+    this.metricsService = metricsService;
+    this.refreshExecutor = taskExecutorBuilder
+        .corePoolSize(properties.getRefreshThreads())
+        .maxPoolSize(properties.getRefreshThreads())
+        .queueCapacity(properties.getRefreshQueueCapacity())
+        .threadNamePrefix("response-cache-refresh-")
+        .build();
+    this.refreshExecutor.initialize();
+  }
+
+  /**
+   * Tells whether responses of the given tenant are cached.
+   *
+   * @param tenant the tenant configuration.
+   * @return {@code true} if the tenant configured a cache TTL.
+   */
+  public boolean isEnabledFor(TenantDataModel tenant) {
+    return tenant.getCacheTtlSeconds() != null;
+  }
+
+  /**
+   * Returns the response for a tenant URL from the cache, calling the upstream on a miss or when revalidation is due.
+   * The same call refreshes stale entries in the background, so it must not record anything into the calling request.
+   *
+   * @param tenant the tenant configuration.
+   * @param url the upstream URL.
+   * @param upstreamCall performs the upstream GET with the given conditional request headers, which are empty when
+   *     there is nothing to revalidate.
+   * @return the cached, revalidated or freshly fetched response.
+   */
+  public ResponseEntity<String> get(TenantDataModel tenant, String url,
+      Function<HttpHeaders, ResponseEntity<String>> upstreamCall) {
+    return get(tenant, url, upstreamCall, upstreamCall);
+  }
+
+  /**
+   * Returns the response for a tenant URL from the cache, calling the upstream on a miss or when revalidation is due.
+   *
+   * @param tenant the tenant configuration.
+   * @param url the upstream URL.
+   * @param upstreamCall performs the upstream GET for the calling request, with the given conditional request
+   *     headers, which are empty when there is nothing to revalidate.
+   * @param refreshCall performs the upstream GET that refreshes a stale entry in the background, after the calling
+   *     request may have completed; it must not record into the calling request.
+   * @return the cached, revalidated or freshly fetched response.
+   */
+  public ResponseEntity<String> get(TenantDataModel tenant, String url,
+      Function<HttpHeaders, ResponseEntity<String>> upstreamCall,
+      Function<HttpHeaders, ResponseEntity<String>> refreshCall) {
+    String tenantId = tenant.getTenantId();
+    Cache<String, CachedResponse> cache = cacheFor(tenant);
+    CachedResponse cached = cache.getIfPresent(url);
+    long now = System.currentTimeMillis();
+
+    if (cached != null && now < cached.freshUntil) {
+      metricsService.recordResponseCacheLookup(tenantId, "hit");
+      return cached.toResponseEntity();
+    }
+    if (cached != null && now < cached.staleUntil) {
+      metricsService.recordResponseCacheLookup(tenantId, "stale");
+      refreshInBackground(tenant, url, cached, refreshCall);
+      return cached.toResponseEntity();
+    }
+
+    metricsService.recordResponseCacheLookup(tenantId, cached == null ? "miss" : "revalidate");
+    ResponseEntity<String> response = upstreamCall.apply(cached == null ? HttpHeaders.EMPTY : cached.validators());
+    return store(tenant, url, cached, response);
+  }
+
+  /**
+   * Drops a tenant's cache whenever its configuration changes or it is removed.
+   *
+   * @param event the tenant change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    Cache<String, CachedResponse> removed = tenantCaches.remove(event.getTenantId());
+    if (removed != null) {
+      removed.invalidateAll();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refreshExecutor.shutdown();
+  }
+
+  private void refreshInBackground(TenantDataModel tenant, String url, CachedResponse cached,
+      Function<HttpHeaders, ResponseEntity<String>> refreshCall) {
+    if (!cached.refreshing.compareAndSet(false, true)) {
+      return; // Another request already started the refresh
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          store(tenant, url, cached, refreshCall.apply(cached.validators()));
+        } catch (Exception e) {
+          log.warn("Background refresh failed for tenant ID: {}, Error: {}", tenant.getTenantId(), e.getMessage());
+        } finally {
+          cached.refreshing.set(false);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      cached.refreshing.set(false);
+    }
+  }
+
+  private ResponseEntity<String> store(TenantDataModel tenant, String url, CachedResponse cached,
+      ResponseEntity<String> response) {
+    Cache<String, CachedResponse> cache = cacheFor(tenant);
+    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+      CachedResponse revalidated = newEntry(tenant, cached.body, cached.contentHeaders, response.getHeaders());
+      if (revalidated != null) {
+        cache.put(url, revalidated);
+      }
+      return cached.toResponseEntity();
+    }
+    if (response.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+      CachedResponse entry = newEntry(tenant, response.getBody(), response.getHeaders(), response.getHeaders());
+      if (entry != null) {
+        cache.put(url, entry);
+      } else {
+        cache.invalidate(url);
+      }
+    }
+    return response;
+  }
+
+  /**
+   * Builds a cache entry from the response headers, or returns {@code null} if the response must not be stored.
+   */
+  private CachedResponse newEntry(TenantDataModel tenant, String body, HttpHeaders contentHeaders,
+      HttpHeaders cachingHeaders) {
+    Map<String, String> directives = parseCacheControl(cachingHeaders.getCacheControl());
+    if (directives.containsKey("no-store") || directives.containsKey("private")) {
+      return null;
+    }
+
+    long freshSeconds = tenant.getCacheTtlSeconds();
+    if (directives.containsKey("no-cache")) {
+      freshSeconds = 0;
+    } else if (directives.containsKey("s-maxage")) {
+      freshSeconds = parseSeconds(directives.get("s-maxage"), freshSeconds);
+    } else if (directives.containsKey("max-age")) {
+      freshSeconds = parseSeconds(directives.get("max-age"), freshSeconds);
+    }
+
+    long staleSeconds = tenant.getCacheStaleSeconds() == null ? 0 : tenant.getCacheStaleSeconds();
+    if (directives.containsKey("no-cache") || directives.containsKey("must-revalidate")
+        || directives.containsKey("proxy-revalidate")) {
+      staleSeconds = 0;
+    } else if (directives.containsKey("stale-while-revalidate")) {
+      staleSeconds = parseSeconds(directives.get("stale-while-revalidate"), staleSeconds);
+    }
+
+    HttpHeaders retained = new HttpHeaders();
+    if (contentHeaders.getContentType() != null) {
+      retained.setContentType(contentHeaders.getContentType());
+    }
+    String etag = cachingHeaders.getETag() != null ? cachingHeaders.getETag() : contentHeaders.getETag();
+    if (etag != null) {
+      retained.setETag(etag);
+    }
+    long lastModified = cachingHeaders.getLastModified() >= 0
+        ? cachingHeaders.getLastModified() : contentHeaders.getLastModified();
+    if (lastModified >= 0) {
+      retained.setLastModified(lastModified);
+    }
+
+    long now = System.currentTimeMillis();
+    long freshUntil = now + TimeUnit.SECONDS.toMillis(freshSeconds);
+    long staleUntil = freshUntil + TimeUnit.SECONDS.toMillis(staleSeconds);
+    long retainUntil = etag != null || lastModified >= 0
+        ? staleUntil + properties.getValidatorRetention().toMillis() : staleUntil;
+    return new CachedResponse(body, HttpHeaders.readOnlyHttpHeaders(retained), freshUntil, staleUntil, retainUntil);
+  }
+
+  private Cache<String, CachedResponse> cacheFor(TenantDataModel tenant) {
+    return tenantCaches.computeIfAbsent(tenant.getTenantId(), tenantId -> newCache(tenant));
+  }
+
+  private Cache<String, CachedResponse> newCache(TenantDataModel tenant) {
+    String tenantId = tenant.getTenantId();
+    long maxBytes = tenant.getCacheMaxBytes() != null ? tenant.getCacheMaxBytes() : properties.getDefaultMaxBytes();
+    return Caffeine.newBuilder()
+        .maximumWeight(maxBytes)
+        .weigher((String url, CachedResponse entry) -> entry.weight(url))
+        .expireAfter(new Expiry<String, CachedResponse>() {
+          @Override
+          public long expireAfterCreate(String url, CachedResponse entry, long currentTime) {
+            return entry.retentionNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String url, CachedResponse entry, long currentTime, long currentDuration) {
+            return entry.retentionNanos();
+          }
+
+          @Override
+          public long expireAfterRead(String url, CachedResponse entry, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .removalListener((String url, CachedResponse entry, RemovalCause cause) -> {
+          if (cause == RemovalCause.SIZE) {
+            metricsService.incrementResponseCacheEvictions(tenantId);
+          }
+        })
+        .build();
+  }
+
+  private static Map<String, String> parseCacheControl(String cacheControl) {
+    Map<String, String> directives = new HashMap<>();
+    if (cacheControl == null) {
+      return directives;
+    }
+    for (String directive : cacheControl.split(",")) {
+      String[] parts = directive.trim().split("=", 2);
+      if (!parts[0].isEmpty()) {
+        directives.put(parts[0].toLowerCase(Locale.ROOT), parts.length > 1 ? parts[1].replace("\"", "").trim() : "");
+      }
+    }
+    return directives;
+  }
+
+  private static long parseSeconds(String value, long fallback) {
+    try {
+      return Math.max(0, Long.parseLong(value));
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
+  private static final class CachedResponse {
+
+    private final String body;
+    private final HttpHeaders contentHeaders;
+    private final long freshUntil;
+    private final long staleUntil;
+    private final long retainUntil;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private CachedResponse(String body, HttpHeaders contentHeaders, long freshUntil, long staleUntil,
+        long retainUntil) {
+      this.body = body;
+      this.contentHeaders = contentHeaders;
+      this.freshUntil = freshUntil;
+      this.staleUntil = staleUntil;
+      this.retainUntil = retainUntil;
+    }
+
+    private ResponseEntity<String> toResponseEntity() {
+      return ResponseEntity.ok().headers(contentHeaders).body(body);
+    }
+
+    private HttpHeaders validators() {
+      HttpHeaders headers = new HttpHeaders();
+      if (contentHeaders.getETag() != null) {
+        headers.setIfNoneMatch(contentHeaders.getETag());
+      }
+      if (contentHeaders.getLastModified() >= 0) {
+        headers.setIfModifiedSince(contentHeaders.getLastModified());
+      }
+      return headers;
+    }
+
+    private int weight(String url) {
+      long bytes = ENTRY_OVERHEAD_BYTES + 2L * url.length() + (body == null ? 0 : 2L * body.length());
+      return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private long retentionNanos() {
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, retainUntil - System.currentTimeMillis()));
+    }
+  }
+}
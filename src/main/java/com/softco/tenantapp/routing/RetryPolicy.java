@@ -0,0 +1,119 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.RetryProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Retries idempotent upstream calls that failed with a connect error or a 5xx response.
+ * <p>
+ * Retries back off exponentially with full jitter. Each tenant has a retry budget of {@code budgetPercent} of its
+ * calls, so a failing upstream sees at most that much extra load instead of a retry storm. No retry is started unless
+ * its backoff fits into the remaining {@link RequestDeadline}. Other failures, such as read timeouts, are not retried:
+ * the upstream may still be working on the request.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryPolicy {
+
+  private final RetryProperties properties;
+  private final MetricsService metricsService;
+  private final Map<String, TokenBudget> budgets = new ConcurrentHashMap<>();
+
+  /**
+   * Runs an idempotent upstream call, retrying it as configured for the tenant.
+   *
+   * @param tenant the tenant being called.
+   * @param call the call; it must be safe to repeat.
+   * @param <T> the result type.
+   * @return the result of the first successful attempt.
+   * @throws com.softco.tenantapp.exception.DeadlineExceededException if the request deadline has already passed.
+   */
+  public <T> T execute(TenantDataModel tenant, Supplier<T> call) {
+    String tenantId = tenant.getTenantId();
+    RequestDeadline.checkNotExpired(tenantId);
+    int maxRetries = tenant.getMaxRetries() != null ? tenant.getMaxRetries() : properties.getDefaultMaxRetries();
+    if (maxRetries <= 0) {
+      return call.get();
+    }
+
+    TokenBudget budget = budgets.computeIfAbsent(tenantId,
+        id -> new TokenBudget(properties.getBudgetPercent() / 100.0, properties.getBudgetMaxTokens()));
+    budget.deposit();
+
+    for (int retry = 0; ; retry++) {
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        if (retry >= maxRetries || !isRetryable(e)) {
+          throw e;
+        }
+        long backoffMillis = backoffMillis(retry);
+        if (RequestDeadline.remainingMillis() <= backoffMillis) {
+          metricsService.recordRetry(tenantId, "deadline");
+          throw e;
+        }
+        if (!budget.tryWithdraw()) {
+          metricsService.recordRetry(tenantId, "budget_exhausted");
+          throw e;
+        }
+        metricsService.recordRetry(tenantId, "retried");
+        log.debug("Retrying call for tenant ID: {} in {} ms after: {}", tenantId, backoffMillis, e.getMessage());
+        sleep(backoffMillis, e);
+      }
+    }
+  }
+
+  /**
+   * Drops the tenant's retry budget when the tenant changes or is removed.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    budgets.remove(event.getTenantId());
+  }
+
+  static boolean isRetryable(Throwable failure) {
+    if (failure instanceof HttpServerErrorException) {
+      return true;
+    }
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+          || cause instanceof ConnectTimeoutException || cause instanceof HttpConnectTimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  long backoffMillis(int retry) {
+    long cap = Math.min(properties.getMaxBackoff().toMillis(),
+        properties.getInitialBackoff().toMillis() << Math.min(retry, 30));
+    return ThreadLocalRandom.current().nextLong(cap + 1);
+  }
+
+  private static void sleep(long millis, RuntimeException failure) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw failure;
+    }
+  }
+}
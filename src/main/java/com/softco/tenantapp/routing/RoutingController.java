@@ -1,8 +1,16 @@
 package com.softco.tenantapp.routing;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softco.tenantapp.exception.MissingHeaderException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.metrics.RequestTimings;
 import com.softco.tenantapp.model.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,22 +19,43 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping(value = "/api")
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "tenant.routing.mode", havingValue = "blocking", matchIfMissing = true)
 public class RoutingController {
 
   private final RoutingService routingService;
+  private final MetricsService metricsService;
+  private final ObjectMapper objectMapper;
 
   /**
-   * Routes a GET request to the tenant-specific endpoint.
+   * Routes a GET request to the tenant-specific endpoint. The response is serialized here rather than by a message
+   * converter, so its {@code Server-Timing} header can include the serialization stage. Error responses carry the
+   * header too, from the timings left in a request attribute.
    *
    * @param tenantId the unique ID of the tenant (provided in the "X-Tenant-ID" header).
+   * @param request the incoming request, which holds the timings for error responses.
    * @return an {@link ApiResponse} containing the response body as a string.
    * @throws MissingHeaderException if the "X-Tenant-ID" header is missing.
+   * @throws JsonProcessingException if the response cannot be serialized.
    */
   @GetMapping("/route")
-  public ApiResponse<String> routeRequest(@RequestHeader(value = "X-Tenant-ID", required = false) String tenantId) {
+  public ResponseEntity<byte[]> routeRequest(@RequestHeader(value = "X-Tenant-ID", required = false) String tenantId,
+      HttpServletRequest request) throws JsonProcessingException {
     if (tenantId == null || tenantId.isEmpty()) {
       throw new MissingHeaderException("Missing required header: X-Tenant-ID");
     }
-    return routingService.routeRequest(tenantId);
+    RequestTimings timings = new RequestTimings();
+    request.setAttribute(RequestTimings.ATTRIBUTE, timings);
+    ApiResponse<String> response = routingService.routeRequest(tenantId, timings);
+
+    long start = System.nanoTime();
+    byte[] body = objectMapper.writeValueAsBytes(response);
+    long serializationNanos = System.nanoTime() - start;
+    timings.record(RequestTimings.Stage.SERIALIZATION, serializationNanos);
+    metricsService.recordRequestStage(tenantId, RequestTimings.Stage.SERIALIZATION, serializationNanos);
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(RequestTimings.HEADER, timings.toServerTiming())
+        .body(body);
   }
 }
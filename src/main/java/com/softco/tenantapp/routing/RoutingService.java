@@ -1,12 +1,22 @@
 package com.softco.tenantapp.routing;
 
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.DeadlineExceededException;
 import com.softco.tenantapp.exception.RequestProcessingException;
 import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.metrics.RequestTimings;
+import com.softco.tenantapp.metrics.RequestTimings.Stage;
 import com.softco.tenantapp.model.ApiResponse;
 import com.softco.tenantapp.model.TenantDataModel;
 import com.softco.tenantapp.tenantdata.TenantDataService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -19,36 +29,119 @@ public class RoutingService {
   private final TenantDataService tenantDataService;
   private final RestTemplate restTemplate;
   private final MetricsService metricsService;
+  private final TenantRateLimiter tenantRateLimiter;
+  private final RequestCoalescer requestCoalescer;
+  private final ResponseCache responseCache;
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final TenantBulkhead tenantBulkhead;
+  private final RequestHedger requestHedger;
+  private final RetryPolicy retryPolicy;
+  private final AdaptiveTimeouts adaptiveTimeouts;
+  private final FairScheduler fairScheduler;
 
   /**
    * Routes a GET request to the tenant-specific endpoint.
    *
    * @param tenantId the unique ID of the tenant for which the request is being routed.
    * @return an {@link ApiResponse} containing the response body as a string.
-   * @throws RuntimeException if the tenant data is not found or the request fails.
+   * @throws RuntimeException if the tenant data is not found, the tenant is over its rate limit or the request fails.
    */
   public ApiResponse<String> routeRequest(String tenantId) {
-    log.info("Routing request for tenant ID: {}", tenantId);
+    return routeRequest(tenantId, new RequestTimings());
+  }
+
+  /**
+   * Routes a GET request to the tenant-specific endpoint, recording the duration of each stage.
+   *
+   * @param tenantId the unique ID of the tenant for which the request is being routed.
+   * @param timings receives the lookup, connection, time to first byte and body stages.
+   * @return an {@link ApiResponse} containing the response body as a string.
+   * @throws RuntimeException if the tenant data is not found, the tenant is over its rate limit or the request fails.
+   */
+  public ApiResponse<String> routeRequest(String tenantId, RequestTimings timings) {
+    log.debug("Routing request for tenant ID: {}", tenantId);
 
     // Fetch tenant data
-    TenantDataModel tenantData = tenantDataService.getTenantById(tenantId);
+    return routeRequest(timings.time(Stage.LOOKUP, () -> tenantDataService.getTenantById(tenantId)), timings);
+  }
 
-    long startTime = System.currentTimeMillis(); // Start measuring latency
+  /**
+   * Routes a GET request to the endpoint of a tenant that has already been looked up.
+   *
+   * @param tenantData the tenant configuration.
+   * @return an {@link ApiResponse} containing the response body as a string.
+   * @throws RuntimeException if the tenant is over its rate limit or the request fails.
+   */
+  public ApiResponse<String> routeRequest(TenantDataModel tenantData) {
+    return routeRequest(tenantData, new RequestTimings());
+  }
+
+  private ApiResponse<String> routeRequest(TenantDataModel tenantData, RequestTimings timings) {
+    String tenantId = tenantData.getTenantId();
+    tenantRateLimiter.acquire(tenantData); // Reject before any work if the tenant is over its rate
+
+    long startTime = System.nanoTime(); // Start measuring latency
     metricsService.incrementTenantRequestCount(tenantId); // Record request count
 
     try {
       log.debug("Making GET request to endpoint: {}", tenantData.getResourceEndpoint());
-      // Make the GET request
-      ResponseEntity<String> response = restTemplate.getForEntity(tenantData.getResourceEndpoint(), String.class);
+      // Make the GET request, from the tenant's response cache if it has one
+      String endpoint = tenantData.getResourceEndpoint();
+      // A background refresh of a stale entry outlives this request, so it records into timings of its own
+      ResponseEntity<String> response = responseCache.isEnabledFor(tenantData)
+          ? responseCache.get(tenantData, endpoint,
+              validators -> fetch(tenantData, endpoint, validators, timings),
+              validators -> fetch(tenantData, endpoint, validators, new RequestTimings()))
+          : fetch(tenantData, endpoint, HttpHeaders.EMPTY, timings);
 
-      long latency = System.currentTimeMillis() - startTime;
-      metricsService.recordTenantRequestLatency(tenantId, latency); // Record latency
+      metricsService.recordTenantRequestLatency(tenantId, System.nanoTime() - startTime); // Record latency
 
       log.info("Request successfully routed for tenant ID: {}, Response: {}", tenantId, response.getBody());
       return new ApiResponse<>(response.getBody()); // Return the response body
+    } catch (CircuitOpenException | BulkheadFullException | DeadlineExceededException e) {
+      log.debug("Rejected request for tenant ID: {}, {}", tenantId, e.getMessage());
+      throw e;
     } catch (Exception e) {
       log.error("Routing failed for tenant ID: {}, Error: {}", tenantId, e.getMessage(), e);
       throw new RequestProcessingException("Routing failed for tenant ID " + tenantId + ": " + e.getMessage(), e);
+    } finally {
+      // A hedge that lost may still be running; its stages are not this request's
+      timings.complete();
+      // Failed and rejected requests too; how far they got is what tells a slow connect from a slow upstream
+      metricsService.recordRequestStages(tenantId, timings);
     }
   }
+
+  /**
+   * Performs the upstream GET with retries, inside the tenant's bulkhead, a {@link FairScheduler} slot and the
+   * tenant's circuit breaker, sharing an identical in-flight call if the tenant opted in to coalescing.
+   *
+   * @param tenantData the tenant configuration.
+   * @param endpoint the tenant's resource endpoint, keying the response cache and coalescing; the call itself goes to
+   *     the endpoint picked by the {@link EndpointBalancer}, hedged if the tenant opted in, within the tenant's
+   *     {@link AdaptiveTimeouts}.
+   * @param requestHeaders conditional request headers from the response cache; empty for a plain GET.
+   * @param timings receives the connection, time to first byte and body stages of the call.
+   * @return the upstream response.
+   */
+  private ResponseEntity<String> fetch(TenantDataModel tenantData, String endpoint, HttpHeaders requestHeaders,
+      RequestTimings timings) {
+    if (!requestHeaders.isEmpty()) {
+      return protect(tenantData, url -> timings.upstream(() -> adaptiveTimeouts.apply(tenantData,
+          () -> restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(requestHeaders), String.class))));
+    }
+    Supplier<ResponseEntity<String>> call = () -> protect(tenantData, url -> timings.upstream(
+        () -> adaptiveTimeouts.apply(tenantData, () -> restTemplate.getForEntity(url, String.class))));
+    return tenantData.isCoalesceRequests()
+        ? requestCoalescer.execute(tenantData.getTenantId(), endpoint, call)
+        : call.get();
+  }
+
+  private ResponseEntity<String> protect(TenantDataModel tenantData, Function<String, ResponseEntity<String>> call) {
+    // RestTemplate throws on 5xx, so every returned response is a success
+    return retryPolicy.execute(tenantData, () -> tenantBulkhead.execute(tenantData,
+        () -> fairScheduler.execute(tenantData,
+            () -> circuitBreakerRegistry.execute(tenantData, () -> requestHedger.execute(tenantData, call),
+                response -> false))));
+  }
 }
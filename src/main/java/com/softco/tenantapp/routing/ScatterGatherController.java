@@ -0,0 +1,54 @@
+package com.softco.tenantapp.routing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softco.tenantapp.model.ScatterRequest;
+import com.softco.tenantapp.model.ScatterResult;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/api")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tenant.routing.mode", havingValue = "blocking", matchIfMissing = true)
+public class ScatterGatherController {
+
+  private final ScatterGatherService scatterGatherService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Routes a GET request to many tenants in parallel, streaming one NDJSON line per tenant as its call completes.
+   * The response becomes NDJSON with the first line, so a request rejected before any tenant is called still gets a
+   * regular error response.
+   *
+   * @param request the IDs of the tenants to call.
+   * @param response the response the results are written to.
+   * @throws com.softco.tenantapp.exception.InvalidRequestException if no or too many tenant IDs are given.
+   */
+  @PostMapping("/scatter")
+  public void scatter(@RequestBody ScatterRequest request, HttpServletResponse response) {
+    scatterGatherService.routeAll(request.getTenantIds(), result -> writeLine(response, result));
+  }
+
+  private void writeLine(HttpServletResponse response, ScatterResult result) {
+    try {
+      if (!response.isCommitted()) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+      }
+      OutputStream out = response.getOutputStream();
+      out.write(objectMapper.writeValueAsBytes(result));
+      out.write('\n');
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.ScatterGatherProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.RateLimitExceededException;
+import com.softco.tenantapp.exception.TenantNotFoundException;
+import com.softco.tenantapp.model.ScatterResult;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Routes one GET request to many tenants in parallel and hands back each tenant's result as soon as it completes.
+ * <p>
+ * The tenants are looked up in one batch. Each upstream call then goes through {@link RoutingService} with all of
+ * its per-tenant protections, on a shared pool, with at most {@code parallelism} calls of one scatter request in
+ * flight. A tenant that fails is reported in its result with the status {@code GET /api/route} would have returned;
+ * the other tenants are not affected. The pool's queue is bounded: when it is full, the tenant's call is not made
+ * and it gets a {@code 503} result, like a tenant whose bulkhead is full.
+ */
+@Slf4j
+@Service
+public class ScatterGatherService {
+
+  private final ScatterGatherProperties properties;
+  private final TenantDataService tenantDataService;
+  private final RoutingService routingService;
+  private final ThreadPoolTaskExecutor scatterExecutor;
+
+  public ScatterGatherService(ScatterGatherProperties properties, TenantDataService tenantDataService,
+      RoutingService routingService, ThreadPoolTaskExecutorBuilder taskExecutorBuilder) {
+    this.properties = properties;
+    this.tenantDataService = tenantDataService;
+    this.routingService = routingService;
+    this.scatterExecutor = taskExecutorBuilder
+        .corePoolSize(properties.getThreads())
+        .maxPoolSize(properties.getThreads())
+        .queueCapacity(properties.getQueueCapacity())
+        .threadNamePrefix("tenant-scatter-")
+        .build();
+    this.scatterExecutor.initialize();
+  }
+
+  /**
+   * Routes a GET request to every listed tenant.
+   *
+   * @param tenantIds the IDs of the tenants to call; duplicates are called once.
+   * @param sink receives one result per tenant, in completion order, on the calling thread. If it throws, for example
+   *     because the client went away, the calls still running are cancelled.
+   * @throws InvalidRequestException if no or too many tenant IDs are given.
+   */
+  public void routeAll(List<String> tenantIds, Consumer<ScatterResult> sink) {
+    if (tenantIds == null || tenantIds.isEmpty()) {
+      throw new InvalidRequestException("At least one tenant ID is required");
+    }
+    Set<String> uniqueIds = new LinkedHashSet<>(tenantIds);
+    if (uniqueIds.size() > properties.getMaxTenants()) {
+      throw new InvalidRequestException("At most " + properties.getMaxTenants() + " tenant IDs are allowed");
+    }
+    log.debug("Scattering request to {} tenants", uniqueIds.size());
+
+    Map<String, TenantDataModel> tenants = tenantDataService.getTenantsByIds(uniqueIds);
+    BlockingQueue<ScatterResult> completed = new LinkedBlockingQueue<>();
+    List<Future<?>> calls = new ArrayList<>();
+    Long deadline = RequestDeadline.current();
+    int inFlight = 0;
+    try {
+      for (String tenantId : uniqueIds) {
+        TenantDataModel tenant = tenants.get(tenantId);
+        if (tenant == null) {
+          sink.accept(ScatterResult.failure(tenantId, HttpStatus.NOT_FOUND.value(),
+              new TenantNotFoundException("Tenant with ID " + tenantId + " not found")));
+          continue;
+        }
+        for (ScatterResult result = completed.poll(); result != null; result = completed.poll()) {
+          sink.accept(result);
+          inFlight--;
+        }
+        if (inFlight == properties.getParallelism()) {
+          sink.accept(completed.take());
+          inFlight--;
+        }
+        try {
+          calls.add(scatterExecutor.submit(() -> completed.add(route(tenant, deadline))));
+          inFlight++;
+        } catch (TaskRejectedException e) {
+          sink.accept(ScatterResult.failure(tenantId, HttpStatus.SERVICE_UNAVAILABLE.value(),
+              new BulkheadFullException("Scatter queue full, tenant ID " + tenantId + " was not called")));
+        }
+      }
+      for (; inFlight > 0; inFlight--) {
+        sink.accept(completed.take());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for tenant results", e);
+    } finally {
+      // Only calls still running are affected, e.g. when the client went away mid-stream
+      calls.forEach(call -> call.cancel(true));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scatterExecutor.shutdown();
+  }
+
+  private ScatterResult route(TenantDataModel tenant, Long deadline) {
+    RequestDeadline.restore(deadline);
+    try {
+      return ScatterResult.success(tenant.getTenantId(), routingService.routeRequest(tenant).getData());
+    } catch (Exception e) {
+      return ScatterResult.failure(tenant.getTenantId(), statusOf(e).value(), e);
+    } finally {
+      RequestDeadline.clear();
+    }
+  }
+
+  /**
+   * Maps a routing failure to the status the {@code GlobalExceptionHandler} gives it on {@code GET /api/route}.
+   */
+  static HttpStatus statusOf(Exception failure) {
+    if (failure instanceof TenantNotFoundException) {
+      return HttpStatus.NOT_FOUND;
+    }
+    if (failure instanceof RateLimitExceededException) {
+      return HttpStatus.TOO_MANY_REQUESTS;
+    }
+    if (failure instanceof CircuitOpenException || failure instanceof BulkheadFullException) {
+      return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+    if (failure instanceof DeadlineExceededException) {
+      return HttpStatus.GATEWAY_TIMEOUT;
+    }
+    return HttpStatus.INTERNAL_SERVER_ERROR;
+  }
+}
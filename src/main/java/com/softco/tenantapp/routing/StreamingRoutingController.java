@@ -0,0 +1,67 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.MissingHeaderException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Transparent proxy for {@code /api/route/**}. A plain {@code GET /api/route} is served by the controller of the
+ * configured routing mode when there is one, since its exact mapping takes precedence over this pattern.
+ */
+@RestController
+@RequestMapping(value = "/api")
+@RequiredArgsConstructor
+public class StreamingRoutingController {
+
+  private static final String ROUTE_PATH = "/api/route";
+
+  private final StreamingRoutingService streamingRoutingService;
+
+  /**
+   * Forwards a request of any method to the tenant-specific endpoint, streaming bodies in both directions.
+   *
+   * @param tenantId the unique ID of the tenant (provided in the "X-Tenant-ID" header).
+   * @param request the incoming request; everything below {@code /api/route} is appended to the tenant endpoint.
+   * @param response the servlet response the upstream body is copied to.
+   * @throws MissingHeaderException if the "X-Tenant-ID" header is missing.
+   * @throws InvalidRequestException if the sub-path has dot segments or encoded slashes, which could reach outside
+   *     the tenant's endpoint.
+   */
+  @RequestMapping("/route/**")
+  public void routeRequest(@RequestHeader(value = "X-Tenant-ID", required = false) String tenantId,
+      HttpServletRequest request, HttpServletResponse response) {
+    if (tenantId == null || tenantId.isEmpty()) {
+      throw new MissingHeaderException("Missing required header: X-Tenant-ID");
+    }
+    String subPath = request.getRequestURI().substring(request.getContextPath().length() + ROUTE_PATH.length());
+    checkSubPath(subPath);
+    streamingRoutingService.forwardRequest(tenantId, subPath, request, response);
+  }
+
+  /**
+   * The sub-path is appended to the tenant endpoint still encoded, so it is checked segment by segment in decoded
+   * form, as the upstream will see it.
+   */
+  private static void checkSubPath(String subPath) {
+    for (String segment : subPath.split("/")) {
+      String decoded;
+      try {
+        decoded = UriUtils.decode(segment, StandardCharsets.UTF_8);
+      } catch (IllegalArgumentException e) {
+        throw new InvalidRequestException("Invalid path: " + subPath);
+      }
+      // Servers ignore path parameters when resolving dot segments, so "..;x" climbs like ".."
+      String name = decoded.indexOf(';') >= 0 ? decoded.substring(0, decoded.indexOf(';')) : decoded;
+      if (name.equals(".") || name.equals("..") || decoded.indexOf('/') >= 0 || decoded.indexOf('\\') >= 0) {
+        throw new InvalidRequestException("Invalid path: " + subPath);
+      }
+    }
+  }
+}
@@ -0,0 +1,280 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.RoutingProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.ClientStreamException;
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.RequestProcessingException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreamingRoutingService {
+
+  private final TenantDataService tenantDataService;
+  private final ClientHttpRequestFactory tenantRequestFactory;
+  private final MetricsService metricsService;
+  private final TenantRateLimiter tenantRateLimiter;
+  private final RoutingProperties routingProperties;
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final TenantBulkhead tenantBulkhead;
+  private final EndpointBalancer endpointBalancer;
+
+  /**
+   * Forwards a request to the tenant-specific endpoint and copies the upstream response straight to the client.
+   * <p>
+   * Method, sub-path, query string and the configured request headers are forwarded to one of the tenant's endpoints.
+   * Request and response bodies are never materialised: both are copied through a fixed-size buffer while the other
+   * side reads, so heap use does not grow with the payload size and a slow reader slows the writer down. Status,
+   * content type, content length and the configured response headers are passed through unchanged, including upstream
+   * errors. The call goes through the tenant's bulkhead and circuit breaker; the breaker counts 5xx responses and the
+   * time to the response headers. Failures on the client's side, a malformed query or a client that disconnects, are
+   * not counted against the tenant's endpoints.
+   *
+   * @param tenantId the unique ID of the tenant for which the request is being routed.
+   * @param subPath the path below {@code /api/route}, appended to the selected endpoint; may be empty.
+   * @param servletRequest the incoming request whose method, query, headers and body are forwarded.
+   * @param servletResponse the response the upstream body is written to.
+   * @throws InvalidRequestException if the sub-path or query string is not a valid encoded URI part.
+   * @throws ClientStreamException if reading the request body from or writing the response to the client fails.
+   * @throws RuntimeException if the tenant data is not found, the tenant is over its rate limit or the upstream call
+   *     fails before the response is committed.
+   */
+  public void forwardRequest(String tenantId, String subPath, HttpServletRequest servletRequest,
+      HttpServletResponse servletResponse) {
+    log.debug("Forwarding {} request for tenant ID: {}", servletRequest.getMethod(), tenantId);
+
+    // Fetch tenant data
+    TenantDataModel tenantData = tenantDataService.getTenantById(tenantId);
+    tenantRateLimiter.acquire(tenantData); // Reject before any work if the tenant is over its rate
+    UriComponents target = target(subPath, servletRequest.getQueryString());
+
+    long startTime = System.nanoTime(); // Start measuring latency
+    metricsService.incrementTenantRequestCount(tenantId); // Record request count
+
+    try {
+      RequestDeadline.checkNotExpired(tenantId);
+      // The bulkhead permit is held until the body is copied, since that is how long the thread is occupied
+      long bytes = tenantBulkhead.execute(tenantData, () -> endpointBalancer.execute(tenantData,
+          baseUrl -> exchange(tenantData, baseUrl, target, servletRequest, servletResponse),
+          result -> servletResponse.getStatus() >= 500));
+
+      long latency = System.nanoTime() - startTime;
+      metricsService.recordTenantRequestLatency(tenantId, latency); // Record latency
+
+      log.info("Request successfully streamed for tenant ID: {}, Bytes: {}", tenantId, bytes);
+    } catch (CircuitOpenException | BulkheadFullException | DeadlineExceededException e) {
+      log.debug("Rejected request for tenant ID: {}, {}", tenantId, e.getMessage());
+      throw e;
+    } catch (ClientStreamException e) {
+      log.debug("Client connection failed for tenant ID: {}, {}", tenantId, e.getMessage());
+      throw e;
+    } catch (Exception e) {
+      log.error("Routing failed for tenant ID: {}, Error: {}", tenantId, e.getMessage(), e);
+      throw new RequestProcessingException("Routing failed for tenant ID " + tenantId + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Parses the part of the upstream URI that comes from the client, once and before an endpoint is chosen, so a
+   * malformed one is the client's error rather than a failure of the endpoint.
+   */
+  private static UriComponents target(String subPath, String query) {
+    try {
+      return UriComponentsBuilder.newInstance().path(subPath).query(query).build(true);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequestException("Invalid path or query: " + e.getMessage());
+    }
+  }
+
+  private long exchange(TenantDataModel tenantData, String baseUrl, UriComponents target,
+      HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
+    URI uri = UriComponentsBuilder.fromUriString(baseUrl)
+        .path(target.getPath())
+        .query(target.getQuery())
+        .build(true)
+        .toUri();
+    HttpMethod method = HttpMethod.valueOf(servletRequest.getMethod());
+    log.debug("Making {} request to endpoint: {}", method, uri);
+
+    try {
+      ClientHttpRequest request = tenantRequestFactory.createRequest(uri, method);
+      copyRequestHeaders(servletRequest, request.getHeaders());
+      RequestDeadline.propagate(request.getHeaders());
+      if (hasBody(servletRequest)) {
+        streamRequestBody(servletRequest, request);
+      }
+      return relay(tenantData, request, servletResponse);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  private long relay(TenantDataModel tenantData, ClientHttpRequest request, HttpServletResponse servletResponse)
+      throws IOException {
+    try (ClientHttpResponse upstream = circuitBreakerRegistry.execute(tenantData, () -> execute(request),
+        StreamingRoutingService::isServerError)) {
+      copyResponseHeaders(upstream, servletResponse);
+      return StreamUtils.copy(upstream.getBody(), clientOutput(servletResponse));
+    }
+  }
+
+  private static ClientHttpResponse execute(ClientHttpRequest request) {
+    try {
+      return request.execute();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e.getMessage(), e);
+    }
+  }
+
+  private static boolean isServerError(ClientHttpResponse response) {
+    try {
+      return response.getStatusCode().is5xxServerError();
+    } catch (IOException e) {
+      return true;
+    }
+  }
+
+  private boolean hasBody(HttpServletRequest servletRequest) {
+    return servletRequest.getContentLengthLong() > 0
+        || servletRequest.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+  }
+
+  private void streamRequestBody(HttpServletRequest servletRequest, ClientHttpRequest request) throws IOException {
+    if (servletRequest.getContentLengthLong() > 0) {
+      request.getHeaders().setContentLength(servletRequest.getContentLengthLong());
+    }
+    if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+      // Written by the client while it sends the request, without an intermediate buffer
+      streamingRequest.setBody(outputStream -> StreamUtils.copy(clientInput(servletRequest), outputStream));
+    } else {
+      StreamUtils.copy(clientInput(servletRequest), request.getBody());
+    }
+  }
+
+  /**
+   * Wraps the client's request body so that its read failures surface as {@link ClientStreamException}, apart from
+   * failures writing to the upstream.
+   */
+  private static InputStream clientInput(HttpServletRequest servletRequest) {
+    try {
+      return new FilterInputStream(servletRequest.getInputStream()) {
+        @Override
+        public int read() {
+          try {
+            return super.read();
+          } catch (IOException e) {
+            throw clientFailure("Reading the request body failed", e);
+          }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          try {
+            return super.read(buffer, offset, length);
+          } catch (IOException e) {
+            throw clientFailure("Reading the request body failed", e);
+          }
+        }
+      };
+    } catch (IOException e) {
+      throw clientFailure("Reading the request body failed", e);
+    }
+  }
+
+  /**
+   * Wraps the client's response stream so that its write failures surface as {@link ClientStreamException}, apart from
+   * failures reading from the upstream.
+   */
+  private static OutputStream clientOutput(HttpServletResponse servletResponse) {
+    try {
+      return new FilterOutputStream(servletResponse.getOutputStream()) {
+        @Override
+        public void write(int b) {
+          try {
+            out.write(b);
+          } catch (IOException e) {
+            throw clientFailure("Writing the response failed", e);
+          }
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+          try {
+            out.write(buffer, offset, length);
+          } catch (IOException e) {
+            throw clientFailure("Writing the response failed", e);
+          }
+        }
+
+        @Override
+        public void flush() {
+          try {
+            out.flush();
+          } catch (IOException e) {
+            throw clientFailure("Writing the response failed", e);
+          }
+        }
+      };
+    } catch (IOException e) {
+      throw clientFailure("Writing the response failed", e);
+    }
+  }
+
+  private static ClientStreamException clientFailure(String message, IOException e) {
+    return new ClientStreamException(message + ": " + e.getMessage(), e);
+  }
+
+  private void copyRequestHeaders(HttpServletRequest servletRequest, HttpHeaders headers) {
+    for (String name : routingProperties.getForwardedRequestHeaders()) {
+      var values = servletRequest.getHeaders(name);
+      while (values != null && values.hasMoreElements()) {
+        headers.add(name, values.nextElement());
+      }
+    }
+  }
+
+  private void copyResponseHeaders(ClientHttpResponse upstream, HttpServletResponse servletResponse)
+      throws IOException {
+    servletResponse.setStatus(upstream.getStatusCode().value());
+    HttpHeaders headers = upstream.getHeaders();
+    if (headers.getContentType() != null) {
+      servletResponse.setContentType(headers.getContentType().toString());
+    }
+    if (headers.getContentLength() >= 0) {
+      servletResponse.setContentLengthLong(headers.getContentLength());
+    }
+    for (String name : routingProperties.getForwardedResponseHeaders()) {
+      var values = headers.get(name);
+      if (values != null) {
+        values.forEach(value -> servletResponse.addHeader(name, value));
+      }
+    }
+  }
+}
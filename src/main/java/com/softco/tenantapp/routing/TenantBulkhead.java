@@ -0,0 +1,132 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.config.BulkheadProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caps the number of request threads each tenant's upstream calls may hold, so a slow tenant exhausts its own
+ * compartment instead of the shared servlet thread pool.
+ * <p>
+ * A request that finds its tenant at the limit waits up to {@code maxWait} for a permit, but only while fewer than
+ * {@code maxQueueDepth} requests are already waiting; beyond that it is rejected without waiting.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantBulkhead {
+
+  private final BulkheadProperties properties;
+  private final MetricsService metricsService;
+  private final Map<String, Compartment> compartments = new ConcurrentHashMap<>();
+
+  /**
+   * Runs an upstream call inside the tenant's compartment.
+   *
+   * @param tenant the tenant being called.
+   * @param call the upstream call.
+   * @param <T> the result type.
+   * @return the result of the call.
+   * @throws BulkheadFullException if the tenant is at its limit and its queue is full or the wait timed out.
+   */
+  public <T> T execute(TenantDataModel tenant, Supplier<T> call) {
+    if (!properties.isEnabled()) {
+      return call.get();
+    }
+    Compartment compartment = compartments.get(tenant.getTenantId());
+    if (compartment == null) {
+      compartment = compartments.computeIfAbsent(tenant.getTenantId(), tenantId -> createCompartment(tenant));
+    }
+    if (!compartment.acquire(properties.getMaxQueueDepth(), properties.getMaxWait().toNanos())) {
+      metricsService.incrementBulkheadRejections(tenant.getTenantId());
+      throw new BulkheadFullException("Too many concurrent requests for tenant ID " + tenant.getTenantId());
+    }
+    try {
+      return call.get();
+    } finally {
+      compartment.release();
+    }
+  }
+
+  /**
+   * Replaces the tenant's compartment when the tenant changes, so a new limit applies to subsequent calls. Calls
+   * already running release their permit to the compartment they acquired it from.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    compartments.remove(event.getTenantId());
+  }
+
+  private Compartment createCompartment(TenantDataModel tenant) {
+    String tenantId = tenant.getTenantId();
+    int maxConcurrentCalls = tenant.getMaxConcurrentCalls() != null && tenant.getMaxConcurrentCalls() > 0
+        ? tenant.getMaxConcurrentCalls()
+        : properties.getMaxConcurrentCalls();
+    metricsService.registerBulkheadGauges(tenantId,
+        () -> gaugeValue(tenantId, true),
+        () -> gaugeValue(tenantId, false));
+    return new Compartment(maxConcurrentCalls);
+  }
+
+  private int gaugeValue(String tenantId, boolean inFlight) {
+    Compartment compartment = compartments.get(tenantId);
+    if (compartment == null) {
+      return 0;
+    }
+    return inFlight ? compartment.inFlight() : compartment.queued();
+  }
+
+  static final class Compartment {
+
+    private final int maxConcurrentCalls;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    Compartment(int maxConcurrentCalls) {
+      this.maxConcurrentCalls = maxConcurrentCalls;
+      this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    boolean acquire(int maxQueueDepth, long maxWaitNanos) {
+      if (permits.tryAcquire()) {
+        return true;
+      }
+      if (queued.incrementAndGet() > maxQueueDepth) {
+        queued.decrementAndGet();
+        return false;
+      }
+      try {
+        return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        queued.decrementAndGet();
+      }
+    }
+
+    void release() {
+      permits.release();
+    }
+
+    int inFlight() {
+      return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    int queued() {
+      return queued.get();
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.softco.tenantapp.routing;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free circuit breaker guarding the upstream of one tenant.
+ * <p>
+ * Outcomes are counted in a count-based window. Once the window holds at least {@code minimumNumberOfCalls}, the
+ * circuit opens if the failure rate or the slow call rate reaches its threshold, and the window starts over after
+ * {@code windowSize} calls. An open circuit rejects calls until {@code openDuration} has passed, then lets
+ * {@code halfOpenPermittedCalls} trial calls through whose outcome closes or re-opens it. All state lives in one
+ * immutable snapshot swapped with compare-and-set.
+ */
+public final class TenantCircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  /**
+   * Receives state transitions, e.g. to export them as metrics.
+   */
+  @FunctionalInterface
+  public interface TransitionListener {
+
+    void onTransition(State from, State to);
+  }
+
+  private final int failureRateThreshold;
+  private final int slowCallRateThreshold;
+  private final long slowCallDurationNanos;
+  private final int minimumNumberOfCalls;
+  private final int windowSize;
+  private final long openDurationNanos;
+  private final int halfOpenPermittedCalls;
+  private final TransitionListener listener;
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.CLOSED);
+
+  public TenantCircuitBreaker(int failureRateThreshold, int slowCallRateThreshold, long slowCallDurationNanos,
+      int minimumNumberOfCalls, int windowSize, long openDurationNanos, int halfOpenPermittedCalls,
+      TransitionListener listener) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    this.slowCallDurationNanos = slowCallDurationNanos;
+    this.minimumNumberOfCalls = minimumNumberOfCalls;
+    this.windowSize = Math.max(windowSize, minimumNumberOfCalls);
+    this.openDurationNanos = openDurationNanos;
+    this.halfOpenPermittedCalls = halfOpenPermittedCalls;
+    this.listener = listener;
+  }
+
+  /**
+   * Asks for permission to call the upstream.
+   *
+   * @return {@code true} if the call may proceed; its outcome must then be reported with {@link #onResult}.
+   */
+  public boolean tryAcquirePermission() {
+    while (true) {
+      Snapshot current = snapshot.get();
+      switch (current.state) {
+        case CLOSED:
+          return true;
+        case OPEN:
+          if (System.nanoTime() - current.openedAt < openDurationNanos) {
+            return false;
+          }
+          if (transition(current, new Snapshot(State.HALF_OPEN, 0, 0, 0, 1, 0))) {
+            return true;
+          }
+          break;
+        default:
+          if (current.permits >= halfOpenPermittedCalls) {
+            return false;
+          }
+          if (snapshot.compareAndSet(current, current.withPermit())) {
+            return true;
+          }
+          break;
+      }
+    }
+  }
+
+  /**
+   * Reports the outcome of a permitted call.
+   *
+   * @param failure whether the call failed.
+   * @param durationNanos how long the call took.
+   */
+  public void onResult(boolean failure, long durationNanos) {
+    boolean slow = durationNanos >= slowCallDurationNanos;
+    while (true) {
+      Snapshot current = snapshot.get();
+      if (current.state == State.OPEN) {
+        return; // Late result of a call permitted before the circuit opened
+      }
+      Snapshot next = evaluate(current.record(failure, slow));
+      if (transition(current, next)) {
+        return;
+      }
+    }
+  }
+
+  public State getState() {
+    return snapshot.get().state;
+  }
+
+  private Snapshot evaluate(Snapshot counted) {
+    if (counted.state == State.HALF_OPEN) {
+      if (counted.calls < halfOpenPermittedCalls) {
+        return counted;
+      }
+      return exceedsThresholds(counted) ? Snapshot.open() : Snapshot.CLOSED;
+    }
+    if (counted.calls >= minimumNumberOfCalls && exceedsThresholds(counted)) {
+      return Snapshot.open();
+    }
+    return counted.calls >= windowSize ? Snapshot.CLOSED : counted;
+  }
+
+  private boolean exceedsThresholds(Snapshot window) {
+    return window.failures * 100L >= (long) failureRateThreshold * window.calls
+        || window.slowCalls * 100L >= (long) slowCallRateThreshold * window.calls;
+  }
+
+  private boolean transition(Snapshot current, Snapshot next) {
+    if (!snapshot.compareAndSet(current, next)) {
+      return false;
+    }
+    if (current.state != next.state) {
+      listener.onTransition(current.state, next.state);
+    }
+    return true;
+  }
+
+  private record Snapshot(State state, int calls, int failures, int slowCalls, int permits, long openedAt) {
+
+    private static final Snapshot CLOSED = new Snapshot(State.CLOSED, 0, 0, 0, 0, 0);
+
+    private static Snapshot open() {
+      return new Snapshot(State.OPEN, 0, 0, 0, 0, System.nanoTime());
+    }
+
+    private Snapshot record(boolean failure, boolean slow) {
+      return new Snapshot(state, calls + 1, failures + (failure ? 1 : 0), slowCalls + (slow ? 1 : 0), permits,
+          openedAt);
+    }
+
+    private Snapshot withPermit() {
+      return new Snapshot(state, calls, failures, slowCalls, permits + 1, openedAt);
+    }
+  }
+}
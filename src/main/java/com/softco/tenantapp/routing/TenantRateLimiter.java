@@ -0,0 +1,112 @@
+package com.softco.tenantapp.routing;
+
+import com.softco.tenantapp.exception.RateLimitExceededException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-tenant token bucket rate limiting, configured by {@code rateLimitPerSecond} and {@code rateLimitBurst} on the
+ * tenant record. Tenants without a rate are not limited.
+ * <p>
+ * Each bucket is implemented as the generic cell rate algorithm: its whole state is the theoretical arrival time of the
+ * next request, advanced with compare-and-set. Admitting a request therefore takes no lock and allocates nothing.
+ * Buckets are rebuilt when the tenant changes, so new limits apply without a restart.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantRateLimiter {
+
+  private final MetricsService metricsService;
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  /**
+   * Admits a request for the tenant or rejects it.
+   *
+   * @param tenant the tenant sending the request.
+   * @throws RateLimitExceededException if the tenant's bucket is empty.
+   */
+  public void acquire(TenantDataModel tenant) {
+    Integer rate = tenant.getRateLimitPerSecond();
+    if (rate == null || rate <= 0) {
+      return;
+    }
+    Bucket bucket = buckets.get(tenant.getTenantId());
+    if (bucket == null) {
+      bucket = buckets.computeIfAbsent(tenant.getTenantId(), tenantId -> createBucket(tenant));
+    }
+    long waitNanos = bucket.tryAcquire(System.nanoTime());
+    if (waitNanos == 0) {
+      bucket.admitted.increment();
+      return;
+    }
+    bucket.rejected.increment();
+    throw new RateLimitExceededException("Rate limit exceeded for tenant ID " + tenant.getTenantId(),
+        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+  }
+
+  /**
+   * Drops the tenant's bucket so changed limits take effect and removed tenants hold no state.
+   *
+   * @param event the change.
+   */
+  @EventListener
+  public void onTenantChanged(TenantChangedEvent event) {
+    buckets.remove(event.getTenantId());
+  }
+
+  private Bucket createBucket(TenantDataModel tenant) {
+    int rate = tenant.getRateLimitPerSecond();
+    int burst = tenant.getRateLimitBurst() != null && tenant.getRateLimitBurst() > 0
+        ? tenant.getRateLimitBurst()
+        : rate;
+    return new Bucket(TimeUnit.SECONDS.toNanos(1) / rate, burst, System.nanoTime(),
+        metricsService.rateLimitCounter(tenant.getTenantId(), true),
+        metricsService.rateLimitCounter(tenant.getTenantId(), false));
+  }
+
+  static final class Bucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalTime;
+    private final Counter admitted;
+    private final Counter rejected;
+
+    Bucket(long emissionIntervalNanos, int burst, long now, Counter admitted, Counter rejected) {
+      this.emissionIntervalNanos = emissionIntervalNanos;
+      this.burstToleranceNanos = emissionIntervalNanos * burst;
+      this.theoreticalArrivalTime = new AtomicLong(now);
+      this.admitted = admitted;
+      this.rejected = rejected;
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param now the current {@link System#nanoTime()}.
+     * @return {@code 0} if admitted, otherwise the nanoseconds until a token becomes available.
+     */
+    long tryAcquire(long now) {
+      while (true) {
+        long arrival = theoreticalArrivalTime.get();
+        long next = Math.max(arrival, now) + emissionIntervalNanos;
+        long allowedAt = next - burstToleranceNanos;
+        if (now - allowedAt < 0) {
+          return allowedAt - now;
+        }
+        if (theoreticalArrivalTime.compareAndSet(arrival, next)) {
+          return 0;
+        }
+      }
+    }
+  }
+}
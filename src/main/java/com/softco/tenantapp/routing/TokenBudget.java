@@ -0,0 +1,41 @@
+package com.softco.tenantapp.routing;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget for extra upstream calls, such as hedges or retries, as a share of regular calls.
+ * <p>
+ * Every regular call deposits {@code ratio} of a token, up to {@code maxTokens}; every extra call withdraws a whole
+ * token. Over time extra calls can therefore not exceed {@code ratio} times the regular traffic, while a small reserve
+ * still allows them after a quiet period. Tokens are counted in thousandths in one atomic long.
+ */
+final class TokenBudget {
+
+  private static final long SCALE = 1000;
+
+  private final long deposit;
+  private final long capacity;
+  private final AtomicLong balance;
+
+  TokenBudget(double ratio, int maxTokens) {
+    this.deposit = Math.round(ratio * SCALE);
+    this.capacity = maxTokens * SCALE;
+    this.balance = new AtomicLong(capacity);
+  }
+
+  void deposit() {
+    balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+  }
+
+  boolean tryWithdraw() {
+    while (true) {
+      long current = balance.get();
+      if (current < SCALE) {
+        return false;
+      }
+      if (balance.compareAndSet(current, current - SCALE)) {
+        return true;
+      }
+    }
+  }
+}
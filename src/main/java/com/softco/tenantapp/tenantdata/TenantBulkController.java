@@ -0,0 +1,74 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softco.tenantapp.model.BulkResult;
+import com.softco.tenantapp.model.TenantDataModel;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk tenant administration. Request bodies are either a JSON array or NDJSON and are parsed while they arrive;
+ * responses are NDJSON with one {@link BulkResult} per item, streamed back while the request is processed. The export
+ * is served by {@link TenantDataController}.
+ */
+@RestController
+@RequestMapping(value = "/api/tenants/bulk")
+@RequiredArgsConstructor
+public class TenantBulkController {
+
+  private final TenantBulkService tenantBulkService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Adds tenants or replaces their configuration.
+   *
+   * @param request a JSON array or NDJSON stream of tenant configurations.
+   * @param response the NDJSON stream of per-tenant results.
+   */
+  @PostMapping
+  public void upsertTenants(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    try (MappingIterator<TenantDataModel> tenants = objectMapper.readerFor(TenantDataModel.class)
+        .readValues(request.getInputStream())) {
+      tenantBulkService.upsertTenants(tenants, resultWriter(response));
+    }
+  }
+
+  /**
+   * Removes tenants.
+   *
+   * @param request a JSON array or NDJSON stream of tenant IDs.
+   * @param response the NDJSON stream of per-tenant results.
+   */
+  @PostMapping("/delete")
+  public void deleteTenants(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    try (MappingIterator<String> tenantIds = objectMapper.readerFor(String.class)
+        .readValues(request.getInputStream())) {
+      tenantBulkService.deleteTenants(tenantIds, resultWriter(response));
+    }
+  }
+
+  private Consumer<BulkResult> resultWriter(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream out = response.getOutputStream();
+    return result -> writeLine(out, result);
+  }
+
+  private void writeLine(OutputStream out, Object value) {
+    try {
+      out.write(objectMapper.writeValueAsBytes(value));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes and exports tenants with plain JDBC, bypassing the persistence context, for the bulk administration
+ * endpoints. A single-tenant change goes through {@link TenantDataRepository} instead.
+ * <p>
+ * Upserts use H2's {@code MERGE ... KEY} statement. A tenant's endpoints are replaced as a whole.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TenantBulkRepository {
+
+  private static final String UPSERT_TENANT = """
+      MERGE INTO tenant_data (tenant_id, resource_endpoint, coalesce_requests, cache_ttl_seconds, cache_stale_seconds,
+          cache_max_bytes, circuit_failure_rate_threshold, circuit_slow_call_rate_threshold, circuit_slow_call_millis,
+          rate_limit_per_second, rate_limit_burst, max_concurrent_calls, hedge_requests, hedge_budget_percent,
+          max_retries, scheduling_weight, scheduling_priority)
+      KEY (tenant_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+  private static final String DELETE_ENDPOINTS = "DELETE FROM tenant_endpoint WHERE tenant_id = ?";
+  private static final String INSERT_ENDPOINT = "INSERT INTO tenant_endpoint (tenant_id, url, weight) VALUES (?, ?, ?)";
+  private static final String DELETE_TENANT = "DELETE FROM tenant_data WHERE tenant_id = ?";
+  private static final String SELECT_ALL = """
+      SELECT d.tenant_id, d.resource_endpoint, d.coalesce_requests, d.cache_ttl_seconds, d.cache_stale_seconds,
+          d.cache_max_bytes, d.circuit_failure_rate_threshold, d.circuit_slow_call_rate_threshold,
+          d.circuit_slow_call_millis, d.rate_limit_per_second, d.rate_limit_burst, d.max_concurrent_calls,
+          d.hedge_requests, d.hedge_budget_percent, d.max_retries, d.scheduling_weight, d.scheduling_priority,
+          e.url, e.weight
+      FROM tenant_data d LEFT JOIN tenant_endpoint e ON e.tenant_id = d.tenant_id
+      ORDER BY d.tenant_id""";
+  private static final int EXPORT_FETCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Inserts or replaces tenants together with their endpoints.
+   *
+   * @param tenants the tenants to write; must be called inside a transaction.
+   */
+  public void upsertAll(List<TenantDataModel> tenants) {
+    jdbcTemplate.batchUpdate(UPSERT_TENANT, tenants, tenants.size(), TenantBulkRepository::bindTenant);
+    jdbcTemplate.batchUpdate(DELETE_ENDPOINTS, tenants, tenants.size(),
+        (statement, tenant) -> statement.setString(1, tenant.getTenantId()));
+
+    List<Object[]> endpoints = new ArrayList<>();
+    for (TenantDataModel tenant : tenants) {
+      for (TenantEndpointModel endpoint : tenant.getEndpoints()) {
+        endpoints.add(new Object[] {tenant.getTenantId(), endpoint.getUrl(), endpoint.getWeight()});
+      }
+    }
+    if (!endpoints.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_ENDPOINT, endpoints);
+    }
+  }
+
+  /**
+   * Deletes tenants; their endpoints go with them.
+   *
+   * @param tenantIds the unique IDs of the tenants to delete.
+   * @return for each ID, in order, whether a tenant was deleted.
+   */
+  public boolean[] deleteAll(List<String> tenantIds) {
+    int[][] counts = jdbcTemplate.batchUpdate(DELETE_TENANT, tenantIds, tenantIds.size(),
+        (statement, tenantId) -> statement.setString(1, tenantId));
+    boolean[] deleted = new boolean[tenantIds.size()];
+    for (int i = 0; i < deleted.length; i++) {
+      deleted[i] = counts[0][i] > 0;
+    }
+    return deleted;
+  }
+
+  /**
+   * Reads every tenant with a forward-only cursor, handing each one over as soon as its rows have been read, so
+   * memory use does not depend on the number of tenants. The connection is held until the last tenant is handed over.
+   *
+   * @param sink receives the tenants in ID order.
+   */
+  public void streamAll(Consumer<TenantDataModel> sink) {
+    jdbcTemplate.query(connection -> {
+      PreparedStatement statement = connection.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY);
+      statement.setFetchSize(EXPORT_FETCH_SIZE);
+      return statement;
+    }, (ResultSetExtractor<Void>) resultSet -> {
+      // Endpoints come as extra rows of their tenant, which are adjacent thanks to the ordering
+      TenantDataModel current = null;
+      while (resultSet.next()) {
+        String tenantId = resultSet.getString("tenant_id");
+        if (current == null || !current.getTenantId().equals(tenantId)) {
+          if (current != null) {
+            sink.accept(current);
+          }
+          current = mapTenant(resultSet);
+        }
+        String url = resultSet.getString("url");
+        if (url != null) {
+          current.getEndpoints().add(new TenantEndpointModel(url, resultSet.getInt("weight")));
+        }
+      }
+      if (current != null) {
+        sink.accept(current);
+      }
+      return null;
+    });
+  }
+
+  private static TenantDataModel mapTenant(ResultSet resultSet) throws SQLException {
+    TenantDataModel tenant = new TenantDataModel(resultSet.getString("tenant_id"),
+        resultSet.getString("resource_endpoint"));
+    tenant.setCoalesceRequests(resultSet.getBoolean("coalesce_requests"));
+    tenant.setCacheTtlSeconds(resultSet.getObject("cache_ttl_seconds", Integer.class));
+    tenant.setCacheStaleSeconds(resultSet.getObject("cache_stale_seconds", Integer.class));
+    tenant.setCacheMaxBytes(resultSet.getObject("cache_max_bytes", Long.class));
+    tenant.setCircuitFailureRateThreshold(resultSet.getObject("circuit_failure_rate_threshold", Integer.class));
+    tenant.setCircuitSlowCallRateThreshold(resultSet.getObject("circuit_slow_call_rate_threshold", Integer.class));
+    tenant.setCircuitSlowCallMillis(resultSet.getObject("circuit_slow_call_millis", Integer.class));
+    tenant.setRateLimitPerSecond(resultSet.getObject("rate_limit_per_second", Integer.class));
+    tenant.setRateLimitBurst(resultSet.getObject("rate_limit_burst", Integer.class));
+    tenant.setMaxConcurrentCalls(resultSet.getObject("max_concurrent_calls", Integer.class));
+    tenant.setHedgeRequests(resultSet.getBoolean("hedge_requests"));
+    tenant.setHedgeBudgetPercent(resultSet.getObject("hedge_budget_percent", Integer.class));
+    tenant.setMaxRetries(resultSet.getObject("max_retries", Integer.class));
+    tenant.setSchedulingWeight(resultSet.getObject("scheduling_weight", Integer.class));
+    tenant.setSchedulingPriority(resultSet.getObject("scheduling_priority", Integer.class));
+    return tenant;
+  }
+
+  private static void bindTenant(PreparedStatement statement, TenantDataModel tenant) throws SQLException {
+    statement.setString(1, tenant.getTenantId());
+    statement.setString(2, tenant.getResourceEndpoint());
+    statement.setBoolean(3, tenant.isCoalesceRequests());
+    statement.setObject(4, tenant.getCacheTtlSeconds(), Types.INTEGER);
+    statement.setObject(5, tenant.getCacheStaleSeconds(), Types.INTEGER);
+    statement.setObject(6, tenant.getCacheMaxBytes(), Types.BIGINT);
+    statement.setObject(7, tenant.getCircuitFailureRateThreshold(), Types.INTEGER);
+    statement.setObject(8, tenant.getCircuitSlowCallRateThreshold(), Types.INTEGER);
+    statement.setObject(9, tenant.getCircuitSlowCallMillis(), Types.INTEGER);
+    statement.setObject(10, tenant.getRateLimitPerSecond(), Types.INTEGER);
+    statement.setObject(11, tenant.getRateLimitBurst(), Types.INTEGER);
+    statement.setObject(12, tenant.getMaxConcurrentCalls(), Types.INTEGER);
+    statement.setBoolean(13, tenant.isHedgeRequests());
+    statement.setObject(14, tenant.getHedgeBudgetPercent(), Types.INTEGER);
+    statement.setObject(15, tenant.getMaxRetries(), Types.INTEGER);
+    statement.setObject(16, tenant.getSchedulingWeight(), Types.INTEGER);
+    statement.setObject(17, tenant.getSchedulingPriority(), Types.INTEGER);
+  }
+}
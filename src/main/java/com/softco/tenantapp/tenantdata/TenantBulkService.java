@@ -0,0 +1,181 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.softco.tenantapp.config.TenantBulkProperties;
+import com.softco.tenantapp.model.BulkResult;
+import com.softco.tenantapp.model.BulkResult.Status;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adds, replaces and removes tenants in bulk.
+ * <p>
+ * Items are read one at a time from the request and written in chunks of {@code chunkSize}, each chunk in one JDBC
+ * batch and its own transaction, so a request of any size needs memory for one chunk only. Once a chunk has
+ * committed, its tenants are swapped into the routing table in one bulk write and a {@link TenantChangedEvent} is
+ * published per tenant. A chunk that fails to commit is reported as failed without affecting the others. A tenant
+ * listed more than once in a chunk is written once, with its last copy, as if the items had been applied in order.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TenantBulkService {
+
+  private static final int MAX_ID_LENGTH = 255;
+
+  private final TenantBulkProperties properties;
+  private final TenantBulkRepository tenantBulkRepository;
+  private final TenantRoutingTable tenantRoutingTable;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * Adds tenants or replaces their configuration.
+   *
+   * @param tenants the tenants, read lazily; an exception while reading ends the request after the items read so far.
+   * @param sink receives one result per tenant, plus one for malformed input.
+   */
+  public void upsertTenants(Iterator<TenantDataModel> tenants, Consumer<BulkResult> sink) {
+    forEachChunk(tenants, chunk -> upsertChunk(chunk, sink), sink);
+  }
+
+  /**
+   * Removes tenants.
+   *
+   * @param tenantIds the unique IDs of the tenants, read lazily; an exception while reading ends the request after the
+   *     IDs read so far.
+   * @param sink receives one result per ID, plus one for malformed input.
+   */
+  public void deleteTenants(Iterator<String> tenantIds, Consumer<BulkResult> sink) {
+    forEachChunk(tenantIds, chunk -> deleteChunk(chunk, sink), sink);
+  }
+
+  /**
+   * Exports every tenant, streamed from the database.
+   *
+   * @param sink receives the tenants in ID order.
+   */
+  public void exportTenants(Consumer<TenantDataModel> sink) {
+    tenantBulkRepository.streamAll(sink);
+  }
+
+  private <T> void forEachChunk(Iterator<T> items, Consumer<List<T>> handler, Consumer<BulkResult> sink) {
+    List<T> chunk = new ArrayList<>(properties.getChunkSize());
+    RuntimeException malformed = null;
+    while (true) {
+      T item;
+      try {
+        if (!items.hasNext()) {
+          break;
+        }
+        item = items.next();
+      } catch (RuntimeException e) {
+        malformed = e;
+        break;
+      }
+      chunk.add(item);
+      if (chunk.size() == properties.getChunkSize()) {
+        handler.accept(chunk);
+        chunk = new ArrayList<>(properties.getChunkSize());
+      }
+    }
+    if (!chunk.isEmpty()) {
+      handler.accept(chunk);
+    }
+    if (malformed != null) {
+      sink.accept(new BulkResult(null, Status.INVALID, "Malformed input: " + malformed.getMessage()));
+    }
+  }
+
+  private void upsertChunk(List<TenantDataModel> chunk, Consumer<BulkResult> sink) {
+    List<TenantDataModel> valid = new ArrayList<>(chunk.size());
+    for (TenantDataModel tenant : chunk) {
+      String problem = validate(tenant);
+      if (problem != null) {
+        sink.accept(new BulkResult(tenant.getTenantId(), Status.INVALID, problem));
+      } else {
+        if (tenant.getEndpoints() == null) {
+          tenant.setEndpoints(new ArrayList<>());
+        }
+        valid.add(tenant);
+      }
+    }
+    if (valid.isEmpty()) {
+      return;
+    }
+    // The repository deletes all old endpoints before inserting the new ones, so writing both copies of a tenant
+    // would leave the endpoints of both in the database while the routing table keeps only the last
+    Map<String, TenantDataModel> latest = new LinkedHashMap<>();
+    valid.forEach(tenant -> latest.put(tenant.getTenantId(), tenant));
+    List<TenantDataModel> writes = new ArrayList<>(latest.values());
+
+    try {
+      transactionTemplate.executeWithoutResult(status -> tenantBulkRepository.upsertAll(writes));
+    } catch (DataAccessException e) {
+      log.warn("Bulk upsert of {} tenants failed: {}", writes.size(), e.getMostSpecificCause().getMessage());
+      valid.forEach(tenant -> sink.accept(
+          new BulkResult(tenant.getTenantId(), Status.FAILED, e.getMostSpecificCause().getMessage())));
+      return;
+    }
+    tenantRoutingTable.putAll(writes);
+    writes.forEach(tenant -> eventPublisher.publishEvent(new TenantChangedEvent(tenant.getTenantId(), tenant)));
+    valid.forEach(tenant -> sink.accept(new BulkResult(tenant.getTenantId(), Status.UPSERTED, null)));
+  }
+
+  private void deleteChunk(List<String> chunk, Consumer<BulkResult> sink) {
+    boolean[] deleted;
+    try {
+      deleted = transactionTemplate.execute(status -> tenantBulkRepository.deleteAll(chunk));
+    } catch (DataAccessException e) {
+      log.warn("Bulk delete of {} tenants failed: {}", chunk.size(), e.getMostSpecificCause().getMessage());
+      chunk.forEach(tenantId -> sink.accept(
+          new BulkResult(tenantId, Status.FAILED, e.getMostSpecificCause().getMessage())));
+      return;
+    }
+    List<String> removed = new ArrayList<>(chunk.size());
+    for (int i = 0; i < chunk.size(); i++) {
+      if (deleted[i]) {
+        removed.add(chunk.get(i));
+      }
+    }
+    tenantRoutingTable.removeAll(removed);
+    removed.forEach(tenantId -> eventPublisher.publishEvent(new TenantChangedEvent(tenantId, null)));
+    for (int i = 0; i < chunk.size(); i++) {
+      sink.accept(new BulkResult(chunk.get(i), deleted[i] ? Status.DELETED : Status.NOT_FOUND, null));
+    }
+  }
+
+  private static String validate(TenantDataModel tenant) {
+    if (tenant.getTenantId() == null || tenant.getTenantId().isBlank()) {
+      return "tenantId is required";
+    }
+    if (tenant.getResourceEndpoint() == null || tenant.getResourceEndpoint().isBlank()) {
+      return "resourceEndpoint is required";
+    }
+    if (tenant.getTenantId().length() > MAX_ID_LENGTH || tenant.getResourceEndpoint().length() > MAX_ID_LENGTH) {
+      return "tenantId and resourceEndpoint must be at most " + MAX_ID_LENGTH + " characters";
+    }
+    if (tenant.getEndpoints() != null) {
+      for (TenantEndpointModel endpoint : tenant.getEndpoints()) {
+        if (endpoint == null || endpoint.getUrl() == null || endpoint.getUrl().isBlank()) {
+          return "endpoints[].url is required";
+        }
+        if (endpoint.getUrl().length() > MAX_ID_LENGTH) {
+          return "endpoints[].url must be at most " + MAX_ID_LENGTH + " characters";
+        }
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,18 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.softco.tenantapp.model.TenantDataModel;
+import lombok.Value;
+
+/**
+ * Published after a tenant was added, updated or removed and the change has been committed.
+ */
+@Value
+public class TenantChangedEvent {
+
+  String tenantId;
+
+  /**
+   * The new tenant configuration, or {@code null} if the tenant was removed.
+   */
+  TenantDataModel tenant;
+}
@@ -1,14 +1,23 @@
 package com.softco.tenantapp.tenantdata;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantPage;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +27,41 @@ import org.springframework.web.bind.annotation.RestController;
 public class TenantDataController {
 
   private final TenantDataService tenantDataService;
+  private final TenantBulkService tenantBulkService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Lists tenants in ID order.
+   *
+   * @param after the {@code nextCursor} of the previous page; omitted for the first page.
+   * @param limit the page size, at most 1000.
+   * @return a {@link TenantPage} with the tenants and the cursor of the next page.
+   */
+  @GetMapping
+  public TenantPage listTenants(@RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "100") int limit) {
+    return tenantDataService.listTenants(after, limit);
+  }
+
+  /**
+   * Exports every tenant as NDJSON, in the format accepted by {@link TenantBulkController#upsertTenants}. Chosen over
+   * {@link #listTenants} when the client accepts {@code application/x-ndjson}.
+   *
+   * @param response the NDJSON stream of tenants.
+   */
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public void exportTenants(HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    OutputStream out = response.getOutputStream();
+    tenantBulkService.exportTenants(tenant -> {
+      try {
+        out.write(objectMapper.writeValueAsBytes(tenant));
+        out.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
 
   /**
    * Retrieves the details of a tenant by its ID.
@@ -41,6 +85,18 @@ public class TenantDataController {
     return tenantDataService.addTenant(tenantDataModel);
   }
 
+  /**
+   * Updates an existing tenant, e.g. to change its rate limit at runtime.
+   *
+   * @param tenantId the unique ID of the tenant to update.
+   * @param tenantDataModel the new tenant configuration.
+   * @return a {@link TenantDataModel} containing the saved tenant details.
+   */
+  @PutMapping("/{tenantId}")
+  public TenantDataModel updateTenant(@PathVariable String tenantId, @RequestBody TenantDataModel tenantDataModel) {
+    return tenantDataService.updateTenant(tenantId, tenantDataModel);
+  }
+
   /**
    * Removes a tenant by its ID.
    *
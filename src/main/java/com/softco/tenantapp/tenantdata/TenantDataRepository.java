@@ -1,7 +1,19 @@
 package com.softco.tenantapp.tenantdata;
 
 import com.softco.tenantapp.entity.TenantDataEntity;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TenantDataRepository extends JpaRepository<TenantDataEntity, String> {
+
+  /**
+   * Reads a page of tenants by keyset: the first {@code limit} tenants whose ID sorts after {@code tenantId}. The
+   * primary key index is used to seek to the start, so late pages cost as much as the first.
+   *
+   * @param tenantId the last ID of the previous page, or an empty string for the first page.
+   * @param limit the page size.
+   * @return the tenants, ordered by ID.
+   */
+  List<TenantDataEntity> findByTenantIdGreaterThanOrderByTenantId(String tenantId, Limit limit);
 }
@@ -1,33 +1,136 @@
 package com.softco.tenantapp.tenantdata;
 
 import com.softco.tenantapp.entity.TenantDataEntity;
+import com.softco.tenantapp.exception.InvalidRequestException;
 import com.softco.tenantapp.exception.TenantNotFoundException;
 import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantPage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class TenantDataService {
 
+  static final int MAX_PAGE_SIZE = 1000;
+
   private final TenantDataRepository tenantDataRepository;
+  private final TenantRoutingTable tenantRoutingTable;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Loads the tenant configuration into the routing table in one batch once the application is ready.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadRoutingTable() {
+    var firstPage = PageRequest.of(0, (int) Math.min(tenantRoutingTable.capacity(), Integer.MAX_VALUE),
+        Sort.by("tenantId"));
+    tenantRoutingTable.loadAll(tenantDataRepository.findAll(firstPage).map(TenantDataModel::from).getContent());
+  }
 
   /**
-   * Retrieves a tenant by its ID.
+   * Retrieves a tenant by its ID, serving it from the routing table when possible. IDs recently found to be unknown
+   * are rejected from the negative cache without a database query.
    *
    * @param tenantId the unique ID of the tenant to retrieve.
    * @return a {@link TenantDataModel} representing the tenant details.
    * @throws RuntimeException if the tenant with the specified ID does not exist.
    */
   public TenantDataModel getTenantById(String tenantId) {
+    TenantDataModel cached = tenantRoutingTable.find(tenantId);
+    if (cached != null) {
+      return cached;
+    }
+
+    if (tenantRoutingTable.isKnownMissing(tenantId)) {
+      throw new TenantNotFoundException("Tenant with ID " + tenantId + " not found");
+    }
+
     log.debug("Fetching tenant with ID: {}", tenantId);
-    return tenantDataRepository.findById(tenantId)
+    long generation = tenantRoutingTable.generation();
+    TenantDataModel tenant = tenantDataRepository.findById(tenantId)
         .map(TenantDataModel::from)
-        .orElseThrow(() -> new TenantNotFoundException("Tenant with ID " + tenantId + " not found"));
+        .orElse(null);
+    if (tenant == null) {
+      tenantRoutingTable.markMissing(tenantId, generation);
+      throw new TenantNotFoundException("Tenant with ID " + tenantId + " not found");
+    }
+    tenantRoutingTable.load(tenant, generation);
+    return tenant;
+  }
+
+  /**
+   * Retrieves several tenants at once. Tenants missing from the routing table are read in a single query, and IDs
+   * that turn out not to exist are remembered in the negative cache like in {@link #getTenantById}.
+   *
+   * @param tenantIds the unique IDs of the tenants to retrieve.
+   * @return the tenants that exist, keyed by tenant ID; unknown IDs are absent.
+   */
+  public Map<String, TenantDataModel> getTenantsByIds(Collection<String> tenantIds) {
+    Map<String, TenantDataModel> found = new HashMap<>();
+    List<String> toLoad = new ArrayList<>();
+    for (String tenantId : tenantIds) {
+      TenantDataModel cached = tenantRoutingTable.find(tenantId);
+      if (cached != null) {
+        found.put(tenantId, cached);
+      } else if (!tenantRoutingTable.isKnownMissing(tenantId)) {
+        toLoad.add(tenantId);
+      }
+    }
+    if (toLoad.isEmpty()) {
+      return found;
+    }
+
+    log.debug("Fetching {} tenants missing from the routing table", toLoad.size());
+    long generation = tenantRoutingTable.generation();
+    for (TenantDataEntity entity : tenantDataRepository.findAllById(toLoad)) {
+      TenantDataModel tenant = TenantDataModel.from(entity);
+      tenantRoutingTable.load(tenant, generation);
+      found.put(tenant.getTenantId(), tenant);
+    }
+    toLoad.stream()
+        .filter(tenantId -> !found.containsKey(tenantId))
+        .forEach(tenantId -> tenantRoutingTable.markMissing(tenantId, generation));
+    return found;
+  }
+
+  /**
+   * Lists tenants in ID order, one page at a time. Pages are read by keyset rather than offset, so walking all
+   * tenants costs one index seek per page.
+   *
+   * @param after the {@code nextCursor} of the previous page, or {@code null} for the first page.
+   * @param limit the page size, at most {@value #MAX_PAGE_SIZE}.
+   * @return the page and the cursor of the next one.
+   * @throws InvalidRequestException if the page size is out of range.
+   */
+  @Transactional(readOnly = true)
+  public TenantPage listTenants(String after, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    List<TenantDataModel> tenants = tenantDataRepository
+        .findByTenantIdGreaterThanOrderByTenantId(after != null ? after : "", Limit.of(limit))
+        .stream()
+        .map(TenantDataModel::from)
+        .toList();
+    String nextCursor = tenants.size() == limit ? tenants.get(tenants.size() - 1).getTenantId() : null;
+    return new TenantPage(tenants, nextCursor);
   }
 
   /**
@@ -36,10 +139,35 @@ public class TenantDataService {
    * @param tenantDataModel the tenant data to be added.
    * @return a {@link TenantDataModel} representing the saved tenant details.
    */
+  @Transactional
   public TenantDataModel addTenant(TenantDataModel tenantDataModel) {
     log.debug("Adding new tenant with ID: {}", tenantDataModel.getTenantId());
     var savedEntity = tenantDataRepository.save(TenantDataEntity.from(tenantDataModel));
-    return TenantDataModel.from(savedEntity);
+    var savedTenant = TenantDataModel.from(savedEntity);
+    afterCommit(() -> {
+      tenantRoutingTable.put(savedTenant);
+      eventPublisher.publishEvent(new TenantChangedEvent(savedTenant.getTenantId(), savedTenant));
+    });
+    return savedTenant;
+  }
+
+  /**
+   * Replaces the configuration of an existing tenant. The routing table and everything keyed by the tenant, such as its
+   * rate limit and circuit breaker, pick up the change once the transaction commits.
+   *
+   * @param tenantId the unique ID of the tenant to update.
+   * @param tenantDataModel the new tenant configuration; its tenant ID is ignored in favour of {@code tenantId}.
+   * @return a {@link TenantDataModel} representing the saved tenant details.
+   * @throws RuntimeException if the tenant with the specified ID does not exist.
+   */
+  @Transactional
+  public TenantDataModel updateTenant(String tenantId, TenantDataModel tenantDataModel) {
+    log.debug("Updating tenant with ID: {}", tenantId);
+    if (!tenantDataRepository.existsById(tenantId)) {
+      throw new TenantNotFoundException("Tenant with ID " + tenantId + " not found");
+    }
+    tenantDataModel.setTenantId(tenantId);
+    return addTenant(tenantDataModel);
   }
 
   /**
@@ -48,12 +176,36 @@ public class TenantDataService {
    * @param tenantId the unique ID of the tenant to be removed.
    * @throws RuntimeException if the tenant with the specified ID does not exist.
    */
+  @Transactional
   public void removeTenant(String tenantId) {
     log.debug("Removing tenant with ID: {}", tenantId);
     if (tenantDataRepository.existsById(tenantId)) {
       tenantDataRepository.deleteById(tenantId);
+      afterCommit(() -> {
+        tenantRoutingTable.remove(tenantId);
+        eventPublisher.publishEvent(new TenantChangedEvent(tenantId, null));
+      });
     } else {
       throw new TenantNotFoundException("Tenant with ID " + tenantId + " not found");
     }
   }
+
+  /**
+   * Runs an action once the current transaction has committed, or immediately when no transaction is active, so the
+   * routing table and {@link TenantChangedEvent} listeners never see a change that was rolled back.
+   *
+   * @param action the action to run.
+   */
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
 }
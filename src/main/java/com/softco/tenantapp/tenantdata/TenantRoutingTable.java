@@ -0,0 +1,201 @@
+package com.softco.tenantapp.tenantdata;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.softco.tenantapp.config.RoutingTableProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, concurrent in-memory view of tenant configuration used on the routing hot path.
+ * <p>
+ * Entries are loaded in bulk at startup, filled on miss and kept current by {@link TenantDataService} whenever a
+ * tenant is added or removed, so a hit never reaches the database. IDs that were not found are kept in a separate,
+ * short-lived negative cache so unknown tenants are rejected without a query until they are added.
+ * <p>
+ * A lookup that read the database before a concurrent change committed must not store what it read, or a deleted
+ * tenant could come back until it expires. Every change therefore advances a {@link #generation()}; a lookup takes it
+ * before its query and its result is only stored if no change happened since.
+ * <p>
+ * The table keeps its own copy of each tenant, so objects handed in by callers can change without affecting routing.
+ * The instances returned by {@link #find} are shared by every request and must not be modified.
+ */
+@Slf4j
+@Component
+public class TenantRoutingTable {
+
+  private final MetricsService metricsService;
+  private final long capacity;
+  private final Cache<String, TenantDataModel> tenants;
+  private final Cache<String, Boolean> unknownTenants;
+  private final AtomicLong generation = new AtomicLong();
+
+  public TenantRoutingTable(RoutingTableProperties properties, MetricsService metricsService) {
+    this.metricsService = metricsService;
+    this.capacity = properties.getMaxSize();
+    this.tenants = Caffeine.newBuilder()
+        .maximumSize(capacity)
+        .expireAfterWrite(properties.getExpireAfterWrite())
+        .removalListener((String tenantId, TenantDataModel tenant, RemovalCause cause) -> {
+          if (cause.wasEvicted()) {
+            metricsService.incrementRoutingTableEvictions();
+          }
+        })
+        .build();
+    this.unknownTenants = Caffeine.newBuilder()
+        .maximumSize(properties.getNegativeMaxSize())
+        .expireAfterWrite(properties.getNegativeTtl())
+        .build();
+    metricsService.registerRoutingTableSize(tenants::estimatedSize);
+  }
+
+  /**
+   * Looks up a tenant in memory.
+   *
+   * @param tenantId the unique ID of the tenant.
+   * @return the cached {@link TenantDataModel}, shared and not to be modified, or {@code null} if the tenant is not in
+   *     the table.
+   */
+  public TenantDataModel find(String tenantId) {
+    TenantDataModel tenant = tenants.getIfPresent(tenantId);
+    metricsService.recordRoutingTableLookup(tenant != null);
+    return tenant;
+  }
+
+  /**
+   * Tells whether a tenant ID was recently looked up in the database and not found.
+   *
+   * @param tenantId the unique ID of the tenant.
+   * @return {@code true} if the ID is in the negative cache.
+   */
+  public boolean isKnownMissing(String tenantId) {
+    boolean missing = unknownTenants.getIfPresent(tenantId) != null;
+    if (missing) {
+      metricsService.incrementRoutingTableNegativeHits();
+    }
+    return missing;
+  }
+
+  /**
+   * Returns the current generation of the table, which every change advances. Take it before reading a tenant from
+   * the database and pass it to {@link #load} or {@link #markMissing}.
+   *
+   * @return the current generation.
+   */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Remembers that a tenant ID does not exist, so repeated lookups are rejected without a database query. Skipped when
+   * tenants changed since the lookup started, as the tenant may have been added meanwhile.
+   *
+   * @param tenantId the unique ID that was not found.
+   * @param readGeneration the {@link #generation()} taken before the database was read.
+   */
+  public void markMissing(String tenantId, long readGeneration) {
+    if (generation.get() != readGeneration) {
+      return;
+    }
+    unknownTenants.asMap().compute(tenantId,
+        (id, missing) -> generation.get() == readGeneration ? Boolean.TRUE : missing);
+  }
+
+  /**
+   * Stores a tenant that was just read from the database after a miss. Skipped when tenants changed since the lookup
+   * started, as the tenant may have been updated or removed meanwhile.
+   *
+   * @param tenant the loaded tenant.
+   * @param readGeneration the {@link #generation()} taken before the database was read.
+   */
+  public void load(TenantDataModel tenant, long readGeneration) {
+    if (generation.get() != readGeneration) {
+      return;
+    }
+    TenantDataModel copy = tenant.copy();
+    // Changes advance the generation before writing, so checking under the key's lock orders this against them
+    tenants.asMap().compute(tenant.getTenantId(),
+        (id, cached) -> generation.get() == readGeneration ? copy : cached);
+    metricsService.recordRoutingTableLoad("miss", 1);
+  }
+
+  /**
+   * Loads a batch of tenants, typically the initial snapshot taken at startup.
+   *
+   * @param batch the tenants to store.
+   */
+  public void loadAll(Collection<TenantDataModel> batch) {
+    batch.forEach(tenant -> tenants.put(tenant.getTenantId(), tenant.copy()));
+    metricsService.recordRoutingTableLoad("bulk", batch.size());
+    log.info("Loaded {} tenants into the routing table", batch.size());
+  }
+
+  /**
+   * Adds or replaces a tenant after its configuration changed.
+   *
+   * @param tenant the current tenant configuration.
+   */
+  public void put(TenantDataModel tenant) {
+    generation.incrementAndGet();
+    tenants.put(tenant.getTenantId(), tenant.copy());
+    unknownTenants.invalidate(tenant.getTenantId());
+  }
+
+  /**
+   * Removes a tenant from the table.
+   *
+   * @param tenantId the unique ID of the removed tenant.
+   */
+  public void remove(String tenantId) {
+    generation.incrementAndGet();
+    tenants.invalidate(tenantId);
+  }
+
+  /**
+   * Adds or replaces a batch of tenants whose configuration changed together, in one bulk write to the table.
+   *
+   * @param batch the current tenant configurations.
+   */
+  public void putAll(Collection<TenantDataModel> batch) {
+    Map<String, TenantDataModel> byId = new HashMap<>();
+    batch.forEach(tenant -> byId.put(tenant.getTenantId(), tenant.copy()));
+    generation.incrementAndGet();
+    tenants.putAll(byId);
+    unknownTenants.invalidateAll(byId.keySet());
+  }
+
+  /**
+   * Removes a batch of tenants from the table.
+   *
+   * @param tenantIds the unique IDs of the removed tenants.
+   */
+  public void removeAll(Collection<String> tenantIds) {
+    generation.incrementAndGet();
+    tenants.invalidateAll(tenantIds);
+  }
+
+  /**
+   * Returns the maximum number of tenants the table holds.
+   *
+   * @return the configured table capacity.
+   */
+  public long capacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the approximate number of tenants currently held.
+   *
+   * @return the estimated table size.
+   */
+  public long size() {
+    return tenants.estimatedSize();
+  }
+}
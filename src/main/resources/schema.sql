@@ -1,5 +1,28 @@
 CREATE TABLE tenant_data
 (
-    tenant_id         VARCHAR(255) NOT NULL PRIMARY KEY,
-    resource_endpoint VARCHAR(255) NOT NULL
+    tenant_id                        VARCHAR(255) NOT NULL PRIMARY KEY,
+    resource_endpoint                VARCHAR(255) NOT NULL,
+    coalesce_requests                BOOLEAN      DEFAULT FALSE NOT NULL,
+    cache_ttl_seconds                INT,
+    cache_stale_seconds              INT,
+    cache_max_bytes                  BIGINT,
+    circuit_failure_rate_threshold   INT,
+    circuit_slow_call_rate_threshold INT,
+    circuit_slow_call_millis         INT,
+    rate_limit_per_second            INT,
+    rate_limit_burst                 INT,
+    max_concurrent_calls             INT,
+    hedge_requests                   BOOLEAN      DEFAULT FALSE NOT NULL,
+    hedge_budget_percent             INT,
+    max_retries                      INT,
+    scheduling_weight                INT,
+    scheduling_priority              INT
+);
+
+CREATE TABLE tenant_endpoint
+(
+    tenant_id VARCHAR(255) NOT NULL,
+    url       VARCHAR(255) NOT NULL,
+    weight    INT          DEFAULT 1 NOT NULL,
+    FOREIGN KEY (tenant_id) REFERENCES tenant_data (tenant_id) ON DELETE CASCADE
 );
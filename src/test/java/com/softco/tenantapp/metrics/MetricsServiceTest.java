@@ -1,63 +1,209 @@
 package com.softco.tenantapp.metrics;
 
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
 
 class MetricsServiceTest {
 
-  @Mock
-  private MeterRegistry meterRegistry;
-
-  @Mock
-  private Counter counter;
-
-  @Mock
-  private Timer timer;
-
-  @InjectMocks
+  private SimpleMeterRegistry meterRegistry;
+  private TenantMetricsProperties properties;
   private MetricsService metricsService;
 
   @BeforeEach
   void setUp() {
-    MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new TenantMetricsProperties();
+    metricsService = new MetricsService(meterRegistry, properties);
   }
 
   @Test
   void testIncrementTenantRequestCount() {
     // Arrange
     String tenantId = "tenant1";
-    when(meterRegistry.counter("tenant.requests.count", "tenantId", tenantId)).thenReturn(counter);
 
     // Act
     metricsService.incrementTenantRequestCount(tenantId);
+    metricsService.incrementTenantRequestCount(tenantId);
 
     // Assert
-    verify(meterRegistry, times(1)).counter("tenant.requests.count", "tenantId", tenantId);
-    verify(counter, times(1)).increment();
+    assertEquals(2, meterRegistry.get("tenant.requests.count").tag("tenantId", tenantId).counter().count());
   }
 
   @Test
   void testRecordTenantRequestLatency() {
     // Arrange
     String tenantId = "tenant1";
-    double latency = 150.0;
-    when(meterRegistry.timer("tenant.requests.latency", "tenantId", tenantId)).thenReturn(timer);
+    long latencyNanos = TimeUnit.MILLISECONDS.toNanos(150);
+
+    // Act
+    metricsService.recordTenantRequestLatency(tenantId, latencyNanos);
+
+    // Assert
+    var timer = meterRegistry.get("tenant.requests.latency").tag("tenantId", tenantId).timer();
+    assertEquals(1, timer.count());
+    assertEquals(150.0, timer.totalTime(TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void testRecordRequestStagesSkipsUnmeasuredStages() {
+    // Arrange
+    properties.setServiceLevelObjectives(List.of(Duration.ofMillis(1)));
+    RequestTimings timings = new RequestTimings();
+    timings.record(RequestTimings.Stage.LOOKUP, TimeUnit.MICROSECONDS.toNanos(50));
+    timings.record(RequestTimings.Stage.TTFB, TimeUnit.MILLISECONDS.toNanos(20));
+
+    // Act
+    metricsService.recordRequestStages("tenant1", timings);
+
+    // Assert
+    var lookup = meterRegistry.get("tenant.request.stage").tags("tenantId", "tenant1", "stage", "lookup").timer();
+    assertEquals(1, lookup.count());
+    assertEquals(1, meterRegistry.get("tenant.request.stage").tag("stage", "ttfb").timer().count());
+    assertEquals(0, meterRegistry.get("tenant.request.stage").tag("stage", "body").timer().count());
+    var sloBucket = Arrays.stream(lookup.takeSnapshot().histogramCounts())
+        .filter(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 1)
+        .findFirst()
+        .orElseThrow();
+    assertEquals(1, sloBucket.count());
+  }
+
+  @Test
+  void testMetersAreResolvedOncePerTenant() {
+    // Arrange
+    metricsService.incrementTenantRequestCount("tenant1");
+    Counter counter = meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant1").counter();
+    int meterCount = meterRegistry.getMeters().size();
+
+    // Act
+    metricsService.incrementTenantRequestCount("tenant1");
+    metricsService.recordTenantRequestLatency("tenant1", 10);
+
+    // Assert
+    assertSame(counter, meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant1").counter());
+    assertEquals(meterCount, meterRegistry.getMeters().size());
+  }
+
+  @Test
+  void testTenantsBeyondCapAreFoldedIntoOther() {
+    // Arrange
+    properties.setMaxTaggedTenants(2);
+
+    // Act
+    metricsService.incrementTenantRequestCount("tenant1");
+    metricsService.incrementTenantRequestCount("tenant2");
+    metricsService.incrementTenantRequestCount("tenant3");
+    metricsService.incrementTenantRequestCount("tenant4");
+    metricsService.recordHedge("tenant4", "sent");
+
+    // Assert
+    assertEquals(1, meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant1").counter().count());
+    assertEquals(2, meterRegistry.get("tenant.requests.count").tag("tenantId", "other").counter().count());
+    assertNull(meterRegistry.find("tenant.requests.count").tag("tenantId", "tenant3").counter());
+    assertEquals(1, meterRegistry.get("tenant.hedging").tag("tenantId", "other").counter().count());
+  }
+
+  @Test
+  void testGaugesAreNotRegisteredBeyondCap() {
+    // Arrange
+    properties.setMaxTaggedTenants(1);
+    metricsService.incrementTenantRequestCount("tenant1");
+
+    // Act
+    metricsService.registerCircuitState("tenant1", () -> 0);
+    metricsService.registerCircuitState("tenant2", () -> 0);
+
+    // Assert
+    assertNotNull(meterRegistry.find("tenant.circuit.state").tag("tenantId", "tenant1").gauge());
+    assertNull(meterRegistry.find("tenant.circuit.state").tag("tenantId", "tenant2").gauge());
+  }
+
+  @Test
+  void testDeletedTenantMetersAreRemoved() {
+    // Arrange
+    properties.setMaxTaggedTenants(1);
+    metricsService.incrementTenantRequestCount("tenant1");
+    metricsService.recordRetry("tenant1", "retried");
+    metricsService.incrementTenantRequestCount("tenant2");
+
+    // Act
+    metricsService.onTenantChanged(new TenantChangedEvent("tenant1", null));
+    metricsService.incrementTenantRequestCount("tenant2");
+
+    // Assert
+    assertNull(meterRegistry.find("tenant.retries").tag("tenantId", "tenant1").counter());
+    assertEquals(1, meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant2").counter().count());
+  }
+
+  @Test
+  void testDeletedTenantGaugesAreRemoved() {
+    // Arrange
+    metricsService.registerBulkheadGauges("tenant1", () -> 0, () -> 0);
+
+    // Act
+    metricsService.onTenantChanged(new TenantChangedEvent("tenant1", null));
+
+    // Assert
+    assertNull(meterRegistry.find("tenant.bulkhead.inflight").tag("tenantId", "tenant1").gauge());
+    assertNull(meterRegistry.find("tenant.bulkhead.queued").tag("tenantId", "tenant1").gauge());
+  }
+
+  @Test
+  void testDeletingUntaggedTenantKeepsOtherBucket() {
+    // Arrange
+    properties.setMaxTaggedTenants(1);
+    metricsService.incrementTenantRequestCount("tenant1");
+    metricsService.incrementTenantRequestCount("tenant2");
+    int meterCount = meterRegistry.getMeters().size();
+
+    // Act
+    metricsService.onTenantChanged(new TenantChangedEvent("tenant2", null));
+
+    // Assert
+    assertEquals(meterCount, meterRegistry.getMeters().size());
+    assertEquals(1, meterRegistry.get("tenant.requests.count").tag("tenantId", "other").counter().count());
+  }
+
+  @Test
+  void testTenantNamedOtherIsCountedInOtherBucket() {
+    // Arrange
+    properties.setMaxTaggedTenants(1);
+    metricsService.incrementTenantRequestCount("other");
+    metricsService.registerCircuitState("other", () -> 0);
+    metricsService.incrementTenantRequestCount("tenant1");
+    metricsService.incrementTenantRequestCount("tenant2");
+
+    // Act
+    metricsService.onTenantChanged(new TenantChangedEvent("other", null));
+
+    // Assert
+    assertEquals(1, meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant1").counter().count());
+    assertEquals(2, meterRegistry.get("tenant.requests.count").tag("tenantId", "other").counter().count());
+    assertNull(meterRegistry.find("tenant.circuit.state").gauge());
+  }
+
+  @Test
+  void testUpdatedTenantMetersAreKept() {
+    // Arrange
+    metricsService.incrementTenantRequestCount("tenant1");
 
     // Act
-    metricsService.recordTenantRequestLatency(tenantId, latency);
+    metricsService.onTenantChanged(new TenantChangedEvent("tenant1", new TenantDataModel()));
 
     // Assert
-    verify(meterRegistry, times(1)).timer("tenant.requests.latency", "tenantId", tenantId);
-    verify(timer, times(1)).record((long) latency, java.util.concurrent.TimeUnit.MILLISECONDS);
+    assertEquals(1, meterRegistry.get("tenant.requests.count").tag("tenantId", "tenant1").counter().count());
   }
 }
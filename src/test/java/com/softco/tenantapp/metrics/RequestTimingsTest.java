@@ -0,0 +1,118 @@
+package com.softco.tenantapp.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.metrics.RequestTimings.Stage;
+import org.junit.jupiter.api.Test;
+
+class RequestTimingsTest {
+
+  @Test
+  void testUpstreamRecordsStagesReportedByHttpClient() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act
+    String result = timings.upstream(() -> {
+      RequestTimings.connectionAcquired(3_000);
+      RequestTimings.responseHeadersReceived(40_000);
+      return "body";
+    });
+
+    // Assert
+    assertEquals("body", result);
+    assertEquals(3_000, timings.nanos(Stage.CONNECTION));
+    assertEquals(40_000, timings.nanos(Stage.TTFB));
+    assertTrue(timings.nanos(Stage.BODY) >= 0);
+  }
+
+  @Test
+  void testUpstreamWithoutHttpClientReportsLeavesStagesUnmeasured() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act
+    timings.upstream(() -> "body");
+
+    // Assert
+    assertTrue(timings.nanos(Stage.CONNECTION) < 0);
+    assertTrue(timings.nanos(Stage.TTFB) < 0);
+    assertTrue(timings.nanos(Stage.BODY) < 0);
+  }
+
+  @Test
+  void testFailedUpstreamRecordsStagesItReached() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act
+    assertThrows(IllegalStateException.class, () -> timings.upstream(() -> {
+      RequestTimings.connectionAcquired(3_000);
+      throw new IllegalStateException("Read timed out");
+    }));
+
+    // Assert
+    assertEquals(3_000, timings.nanos(Stage.CONNECTION));
+    assertTrue(timings.nanos(Stage.TTFB) < 0);
+  }
+
+  @Test
+  void testReportsOutsideUpstreamAreIgnored() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act
+    RequestTimings.connectionAcquired(3_000);
+    RequestTimings.responseHeadersReceived(40_000);
+
+    // Assert
+    assertTrue(timings.nanos(Stage.CONNECTION) < 0);
+  }
+
+  @Test
+  void testUpstreamFinishingAfterCompleteIsNotRecorded() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act
+    timings.upstream(() -> {
+      RequestTimings.connectionAcquired(3_000);
+      RequestTimings.responseHeadersReceived(40_000);
+      timings.complete();
+      return null;
+    });
+
+    // Assert
+    assertTrue(timings.nanos(Stage.CONNECTION) < 0);
+    assertTrue(timings.nanos(Stage.TTFB) < 0);
+  }
+
+  @Test
+  void testTimeRecordsFailedStage() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> timings.time(Stage.LOOKUP, () -> {
+      throw new IllegalStateException("lookup failed");
+    }));
+    assertTrue(timings.nanos(Stage.LOOKUP) >= 0);
+  }
+
+  @Test
+  void testServerTimingListsMeasuredStagesInMilliseconds() {
+    // Arrange
+    RequestTimings timings = new RequestTimings();
+    timings.record(Stage.LOOKUP, 41_999);
+    timings.record(Stage.TTFB, 12_503_000);
+    timings.record(Stage.SERIALIZATION, 1_000_000);
+
+    // Act
+    String header = timings.toServerTiming();
+
+    // Assert
+    assertTrue(header.startsWith("lookup;dur=0.041, ttfb;dur=12.503, serialize;dur=1.000, total;dur="), header);
+  }
+}
@@ -0,0 +1,100 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.ConcurrencyLimitProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private MetricsService metricsService;
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    properties.setInitialLimit(20);
+    properties.setMinLimit(5);
+    properties.setMaxLimit(200);
+    limiter = new AdaptiveConcurrencyLimiter(properties, metricsService);
+  }
+
+  @Test
+  void testShedsAboveLimit() {
+    // Arrange
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limiter.tryAcquire());
+    }
+
+    // Act
+    boolean admitted = limiter.tryAcquire();
+
+    // Assert
+    assertFalse(admitted);
+    assertEquals(20, limiter.getInFlight());
+    verify(metricsService, times(1)).incrementRequestsShed();
+  }
+
+  @Test
+  void testLimitGrowsWhileLatencyStaysAtBaseline() {
+    // Act
+    for (int i = 0; i < 50; i++) {
+      limiter.onSample(FAST, limiter.getLimit());
+    }
+
+    // Assert
+    assertTrue(limiter.getLimit() > 20);
+  }
+
+  @Test
+  void testLimitDoesNotGrowWhenMostlyIdle() {
+    // Act
+    for (int i = 0; i < 50; i++) {
+      limiter.onSample(FAST, 1);
+    }
+
+    // Assert
+    assertEquals(20, limiter.getLimit());
+  }
+
+  @Test
+  void testLimitShrinksWhenLatencyRises() {
+    // Arrange
+    for (int i = 0; i < 50; i++) {
+      limiter.onSample(FAST, limiter.getLimit());
+    }
+    int limitAtBaseline = limiter.getLimit();
+
+    // Act
+    for (int i = 0; i < 50; i++) {
+      limiter.onSample(SLOW, limiter.getLimit());
+    }
+
+    // Assert
+    assertTrue(limiter.getLimit() < limitAtBaseline);
+  }
+
+  @Test
+  void testReleaseFreesCapacity() {
+    // Arrange
+    assertTrue(limiter.tryAcquire());
+
+    // Act
+    limiter.release(FAST);
+
+    // Assert
+    assertEquals(0, limiter.getInFlight());
+  }
+}
@@ -0,0 +1,179 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.config.AdaptiveTimeoutProperties;
+import com.softco.tenantapp.config.RoutingTableProperties;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.routing.AdaptiveTimeouts.Timeouts;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+class AdaptiveTimeoutsTest {
+
+  private static final String TENANT_ID = "tenant1";
+
+  private AdaptiveTimeoutProperties properties;
+  private LatencyTracker latencyTracker;
+  private AdaptiveTimeouts adaptiveTimeouts;
+
+  @BeforeEach
+  void setUp() {
+    properties = new AdaptiveTimeoutProperties();
+    latencyTracker = new LatencyTracker(new RoutingTableProperties());
+    adaptiveTimeouts = new AdaptiveTimeouts(properties, latencyTracker);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestDeadline.clear();
+  }
+
+  private void primeLatency(long millis) {
+    for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+      latencyTracker.record(TENANT_ID, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+  }
+
+  @Test
+  void testUpperBoundsApplyUntilEnoughSamples() {
+    // Act
+    Timeouts timeouts = adaptiveTimeouts.timeouts(TENANT_ID);
+
+    // Assert
+    assertFalse(timeouts.adaptive());
+    assertEquals(10_000, timeouts.readTimeoutMillis());
+    assertEquals(2_000, timeouts.connectTimeoutMillis());
+  }
+
+  @Test
+  void testTimeoutsArePercentilePlusMarginWithinBounds() {
+    // Arrange
+    primeLatency(600);
+
+    // Act
+    Timeouts timeouts = adaptiveTimeouts.timeouts(TENANT_ID);
+
+    // Assert
+    assertTrue(timeouts.adaptive());
+    assertEquals(800, timeouts.readTimeoutMillis());
+    assertEquals(800, timeouts.connectTimeoutMillis());
+  }
+
+  @Test
+  void testFastTenantIsClampedToFloors() {
+    // Arrange
+    primeLatency(1);
+    properties.setMargin(Duration.ZERO);
+
+    // Act
+    Timeouts timeouts = adaptiveTimeouts.timeouts(TENANT_ID);
+
+    // Assert
+    assertEquals(250, timeouts.readTimeoutMillis());
+    assertEquals(100, timeouts.connectTimeoutMillis());
+  }
+
+  @Test
+  void testApplyPublishesTimeoutsBoundedByDeadline() {
+    // Arrange
+    primeLatency(600);
+    RequestDeadline.startIn(300);
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+
+    // Act
+    Timeouts applied = adaptiveTimeouts.apply(tenant, AdaptiveTimeouts::current);
+
+    // Assert
+    assertTrue(applied.readTimeoutMillis() <= 300);
+    assertTrue(applied.connectTimeoutMillis() <= 300);
+    assertNull(AdaptiveTimeouts.current());
+  }
+
+  @Test
+  void testTenantSlowerThanItsTimeoutWidensItAndRecovers() {
+    // Arrange
+    primeLatency(100);
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+    assertEquals(300, adaptiveTimeouts.timeouts(TENANT_ID).readTimeoutMillis());
+    long slowMillis = 2_000;
+
+    // Act: the tenant now takes 2s, so calls time out until the timeout has grown past that
+    int timedOut = 0;
+    while (true) {
+      Timeouts applied = adaptiveTimeouts.timeouts(TENANT_ID);
+      if (applied.readTimeoutMillis() > slowMillis) {
+        break;
+      }
+      assertThrows(ResourceAccessException.class, () -> adaptiveTimeouts.apply(tenant, () -> {
+        throw new ResourceAccessException("Read timed out", new SocketTimeoutException("Read timed out"));
+      }));
+      timedOut++;
+      assertTrue(timedOut < 10, "timeout never widened");
+    }
+    for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+      latencyTracker.record(TENANT_ID, TimeUnit.MILLISECONDS.toNanos(slowMillis));
+    }
+    long slowTimeout = adaptiveTimeouts.timeouts(TENANT_ID).readTimeoutMillis();
+    // ...and then recovers
+    for (int i = 0; i < LatencyTracker.WINDOW_SIZE; i++) {
+      latencyTracker.record(TENANT_ID, TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    long recoveredTimeout = adaptiveTimeouts.timeouts(TENANT_ID).readTimeoutMillis();
+
+    // Assert
+    assertTrue(timedOut <= 3, "took " + timedOut + " timeouts to widen");
+    assertTrue(slowTimeout > slowMillis);
+    assertEquals(300, recoveredTimeout);
+  }
+
+  @Test
+  void testOtherFailuresAreNotRecorded() {
+    // Arrange
+    primeLatency(100);
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+
+    // Act
+    assertThrows(IllegalStateException.class, () -> adaptiveTimeouts.apply(tenant, () -> {
+      throw new IllegalStateException("boom");
+    }));
+
+    // Assert
+    assertEquals(300, adaptiveTimeouts.timeouts(TENANT_ID).readTimeoutMillis());
+  }
+
+  @Test
+  void testDisabledLeavesStaticTimeouts() {
+    // Arrange
+    properties.setEnabled(false);
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+
+    // Act & Assert
+    assertNull(adaptiveTimeouts.apply(tenant, AdaptiveTimeouts::current));
+    assertTrue(adaptiveTimeouts.effectiveTimeouts().isEmpty());
+  }
+
+  @Test
+  void testRemovedTenantIsForgotten() {
+    // Arrange
+    Timeouts timeouts = adaptiveTimeouts.timeouts(TENANT_ID);
+    assertSame(timeouts, adaptiveTimeouts.effectiveTimeouts().get(TENANT_ID));
+
+    // Act
+    adaptiveTimeouts.onTenantChanged(new TenantChangedEvent(TENANT_ID, null));
+
+    // Assert
+    assertTrue(adaptiveTimeouts.effectiveTimeouts().isEmpty());
+  }
+}
@@ -0,0 +1,63 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+  private AdaptiveConcurrencyLimiter limiter;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    limiter = mock(AdaptiveConcurrencyLimiter.class);
+    filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper().registerModule(new JavaTimeModule()));
+  }
+
+  @Test
+  void testAdmittedRequestIsReleasedWithItsLatency() throws Exception {
+    // Arrange
+    when(limiter.tryAcquire()).thenReturn(true);
+    MockFilterChain chain = new MockFilterChain();
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/route"), new MockHttpServletResponse(), chain);
+
+    // Assert
+    assertNotNull(chain.getRequest());
+    verify(limiter, times(1)).release(anyLong());
+  }
+
+  @Test
+  void testShedRequestGets503WithoutReachingTheRouter() throws Exception {
+    // Arrange
+    when(limiter.tryAcquire()).thenReturn(false);
+    MockFilterChain chain = new MockFilterChain();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // Act
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/route"), response, chain);
+
+    // Assert
+    assertEquals(503, response.getStatus());
+    assertTrue(response.getContentAsString().contains("Router is overloaded"));
+    assertNull(chain.getRequest());
+    verify(limiter, never()).release(anyLong());
+  }
+}
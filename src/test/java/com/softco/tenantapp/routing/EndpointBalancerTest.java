@@ -0,0 +1,133 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.LoadBalancerProperties;
+import com.softco.tenantapp.exception.ClientStreamException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EndpointBalancerTest {
+
+  private static final String PRIMARY = "https://tenant1-a.com";
+  private static final String SECONDARY = "https://tenant1-b.com";
+
+  private MetricsService metricsService;
+  private EndpointBalancer endpointBalancer;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    LoadBalancerProperties properties = new LoadBalancerProperties();
+    properties.setConsecutiveFailures(2);
+    endpointBalancer = new EndpointBalancer(properties, metricsService);
+  }
+
+  private TenantDataModel tenant(TenantEndpointModel... endpoints) {
+    TenantDataModel tenant = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    tenant.setEndpoints(List.of(endpoints));
+    return tenant;
+  }
+
+  @Test
+  void testTenantWithoutEndpointsUsesResourceEndpoint() {
+    // Act
+    String url = endpointBalancer.execute(tenant(), baseUrl -> baseUrl, result -> false);
+
+    // Assert
+    assertEquals("https://tenant1-service.com", url);
+  }
+
+  @Test
+  void testSelectPrefersEndpointWithFewerOutstandingRequests() {
+    // Arrange
+    EndpointBalancer.Endpoint busy = new EndpointBalancer.Endpoint(PRIMARY, 1);
+    EndpointBalancer.Endpoint idle = new EndpointBalancer.Endpoint(SECONDARY, 1);
+    busy.outstanding().set(10);
+    EndpointBalancer.Endpoint[] pool = {busy, idle};
+
+    // Act
+    Map<String, Integer> picks = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      picks.merge(endpointBalancer.select(pool).url(), 1, Integer::sum);
+    }
+
+    // Assert: the busy endpoint only wins when both draws land on it, about a quarter of the time
+    int busyPicks = picks.getOrDefault(PRIMARY, 0);
+    assertEquals(1000, busyPicks + picks.getOrDefault(SECONDARY, 0));
+    assertEquals(250, busyPicks, 75);
+  }
+
+  @Test
+  void testFailingEndpointIsEjected() {
+    // Arrange
+    TenantDataModel tenant = tenant(new TenantEndpointModel(PRIMARY, 1), new TenantEndpointModel(SECONDARY, 1));
+    for (int i = 0; i < 100; i++) {
+      try {
+        endpointBalancer.execute(tenant, baseUrl -> {
+          if (PRIMARY.equals(baseUrl)) {
+            throw new IllegalStateException("Connection refused");
+          }
+          return baseUrl;
+        }, result -> false);
+      } catch (IllegalStateException e) {
+        // Expected while the primary endpoint is still selected
+      }
+    }
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      assertEquals(SECONDARY, endpointBalancer.execute(tenant, baseUrl -> baseUrl, result -> false));
+    }
+
+    // Assert
+    verify(metricsService, times(1)).incrementEndpointEjections("tenant1");
+  }
+
+  @Test
+  void testAllEndpointsEjectedStillServesTraffic() {
+    // Arrange
+    TenantDataModel tenant = tenant(new TenantEndpointModel(PRIMARY, 1), new TenantEndpointModel(SECONDARY, 1));
+    for (int i = 0; i < 100; i++) {
+      assertThrows(IllegalStateException.class, () -> endpointBalancer.execute(tenant, baseUrl -> {
+        throw new IllegalStateException("Connection refused");
+      }, result -> false));
+    }
+
+    // Act
+    String url = endpointBalancer.execute(tenant, baseUrl -> baseUrl, result -> false);
+
+    // Assert
+    assertTrue(List.of(PRIMARY, SECONDARY).contains(url));
+  }
+
+  @Test
+  void testClientStreamFailuresDoNotEjectEndpoints() {
+    // Arrange
+    TenantDataModel tenant = tenant(new TenantEndpointModel(PRIMARY, 1), new TenantEndpointModel(SECONDARY, 1));
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      assertThrows(ClientStreamException.class, () -> endpointBalancer.execute(tenant, baseUrl -> {
+        throw new ClientStreamException("Writing the response failed", new IOException("Broken pipe"));
+      }, result -> false));
+    }
+
+    // Assert
+    verify(metricsService, never()).incrementEndpointEjections(anyString());
+  }
+}
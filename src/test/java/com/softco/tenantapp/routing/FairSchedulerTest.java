@@ -0,0 +1,169 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.SchedulerProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FairSchedulerTest {
+
+  private MetricsService metricsService;
+  private SchedulerProperties properties;
+  private FairScheduler scheduler;
+  private ExecutorService executor;
+  private final List<String> served = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    properties = new SchedulerProperties();
+    properties.setMaxConcurrentCalls(1);
+    scheduler = new FairScheduler(properties, metricsService);
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static TenantDataModel tenant(String tenantId, Integer weight, Integer priority) {
+    TenantDataModel tenant = new TenantDataModel(tenantId, "https://" + tenantId + "-service.com");
+    tenant.setSchedulingWeight(weight);
+    tenant.setSchedulingPriority(priority);
+    return tenant;
+  }
+
+  /**
+   * Queues a call that records its tenant once admitted and frees its slot at once, and waits until it is queued.
+   */
+  private Future<?> enqueue(TenantDataModel tenant) throws InterruptedException {
+    int before = scheduler.queued();
+    Future<?> call = executor.submit(() -> {
+      if (scheduler.acquire(tenant, TimeUnit.SECONDS.toNanos(5))) {
+        served.add(tenant.getTenantId());
+        scheduler.release();
+      }
+    });
+    while (scheduler.queued() == before) {
+      Thread.sleep(1);
+    }
+    return call;
+  }
+
+  private void drain(List<Future<?>> calls) throws Exception {
+    scheduler.release(); // frees the slot taken by the test thread and starts the chain of queued calls
+    for (Future<?> call : calls) {
+      call.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void testHeavyTenantDoesNotStarveOthers() throws Exception {
+    // Arrange
+    TenantDataModel heavy = tenant("heavy", null, null);
+    TenantDataModel light = tenant("light", null, null);
+    scheduler.acquire(heavy, 0);
+    List<Future<?>> calls = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      calls.add(enqueue(heavy));
+    }
+    calls.add(enqueue(light));
+    calls.add(enqueue(light));
+
+    // Act
+    drain(calls);
+
+    // Assert
+    assertEquals(List.of("heavy", "light", "heavy", "light", "heavy", "heavy"), served);
+  }
+
+  @Test
+  void testTenantsAreServedInProportionToTheirWeight() throws Exception {
+    // Arrange
+    TenantDataModel gold = tenant("gold", 3, null);
+    TenantDataModel bronze = tenant("bronze", 1, null);
+    scheduler.acquire(gold, 0);
+    List<Future<?>> calls = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      calls.add(enqueue(gold));
+      calls.add(enqueue(bronze));
+    }
+
+    // Act
+    drain(calls);
+
+    // Assert
+    assertEquals(List.of("gold", "gold", "gold", "bronze", "gold", "bronze", "bronze", "bronze"), served);
+  }
+
+  @Test
+  void testHigherPriorityClassIsServedFirst() throws Exception {
+    // Arrange
+    TenantDataModel batch = tenant("batch", null, 2);
+    TenantDataModel interactive = tenant("interactive", null, 0);
+    scheduler.acquire(batch, 0);
+    List<Future<?>> calls = new ArrayList<>();
+    calls.add(enqueue(batch));
+    calls.add(enqueue(batch));
+    calls.add(enqueue(interactive));
+
+    // Act
+    drain(calls);
+
+    // Assert
+    assertEquals(List.of("interactive", "batch", "batch"), served);
+  }
+
+  @Test
+  void testCallIsRejectedAfterMaxWait() {
+    // Arrange
+    properties.setMaxWait(Duration.ofMillis(20));
+    TenantDataModel tenant = tenant("tenant1", null, null);
+    scheduler.acquire(tenant, 0);
+
+    // Act & Assert
+    assertThrows(BulkheadFullException.class, () -> scheduler.execute(tenant, () -> "unused"));
+    assertEquals(0, scheduler.queued());
+    verify(metricsService).recordSchedulerQueueWait(eq("tenant1"), anyLong());
+  }
+
+  @Test
+  void testCallIsRejectedWhenQueueIsFull() {
+    // Arrange
+    properties.setMaxQueueDepth(0);
+    TenantDataModel tenant = tenant("tenant1", null, null);
+    scheduler.acquire(tenant, 0);
+
+    // Act & Assert
+    assertThrows(BulkheadFullException.class, () -> scheduler.execute(tenant, () -> "unused"));
+  }
+
+  @Test
+  void testFreeSlotIsTakenWithoutQueueing() {
+    // Act
+    String result = scheduler.execute(tenant("tenant1", null, null), () -> "ok");
+
+    // Assert
+    assertEquals("ok", result);
+    assertEquals(0, scheduler.queued());
+  }
+}
@@ -0,0 +1,95 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.softco.tenantapp.exception.RequestProcessingException;
+import com.softco.tenantapp.exception.TenantNotFoundException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.ApiResponse;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveRoutingServiceTest {
+
+  private static final String TENANT_ID = "tenant1";
+  private static final String ENDPOINT = "https://tenant1-service.com/resource";
+
+  @Mock
+  private TenantDataService tenantDataService;
+
+  @Mock
+  private MetricsService metricsService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  private ReactiveRoutingService serviceResponding(HttpStatus status, String body) {
+    WebClient webClient = WebClient.builder()
+        .exchangeFunction(request -> Mono.just(ClientResponse.create(status).body(body).build()))
+        .build();
+    return new ReactiveRoutingService(tenantDataService, webClient, metricsService,
+        new TenantRateLimiter(metricsService));
+  }
+
+  @Test
+  void testRouteRequest_Success() {
+    // Arrange
+    when(tenantDataService.getTenantById(TENANT_ID)).thenReturn(new TenantDataModel(TENANT_ID, ENDPOINT));
+    ReactiveRoutingService reactiveRoutingService = serviceResponding(HttpStatus.OK, "Success Response");
+
+    // Act
+    ApiResponse<String> result = reactiveRoutingService.routeRequest(TENANT_ID).block();
+
+    // Assert
+    assertNotNull(result);
+    assertEquals("Success Response", result.getData());
+    verify(metricsService, times(1)).incrementTenantRequestCount(TENANT_ID);
+    verify(metricsService, times(1)).recordTenantRequestLatency(eq(TENANT_ID), anyLong());
+  }
+
+  @Test
+  void testRouteRequest_TenantNotFound() {
+    // Arrange
+    when(tenantDataService.getTenantById(TENANT_ID))
+        .thenThrow(new TenantNotFoundException("Tenant with ID " + TENANT_ID + " not found"));
+    ReactiveRoutingService reactiveRoutingService = serviceResponding(HttpStatus.OK, "unused");
+
+    // Act & Assert
+    assertThrows(TenantNotFoundException.class, () -> reactiveRoutingService.routeRequest(TENANT_ID));
+    verifyNoInteractions(metricsService);
+  }
+
+  @Test
+  void testRouteRequest_RequestFailure() {
+    // Arrange
+    when(tenantDataService.getTenantById(TENANT_ID)).thenReturn(new TenantDataModel(TENANT_ID, ENDPOINT));
+    ReactiveRoutingService reactiveRoutingService = serviceResponding(HttpStatus.BAD_GATEWAY, "Bad gateway");
+
+    // Act & Assert
+    Mono<ApiResponse<String>> result = reactiveRoutingService.routeRequest(TENANT_ID);
+    RequestProcessingException exception = assertThrows(RequestProcessingException.class, result::block);
+    assertTrue(exception.getMessage().contains("Routing failed for tenant ID tenant1"));
+    verify(metricsService, times(1)).incrementTenantRequestCount(TENANT_ID);
+    verify(metricsService, never()).recordTenantRequestLatency(eq(TENANT_ID), anyLong());
+  }
+}
@@ -0,0 +1,159 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.metrics.MetricsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+class RequestCoalescerTest {
+
+  private static final String TENANT_ID = "tenant1";
+  private static final String ENDPOINT = "https://tenant1-service.com/resource";
+
+  private SimpleMeterRegistry meterRegistry;
+  private RequestCoalescer requestCoalescer;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    requestCoalescer = new RequestCoalescer(new MetricsService(meterRegistry, new TenantMetricsProperties()));
+  }
+
+  @Test
+  void testExecute_concurrentCallersShareOneUpstreamCall() throws Exception {
+    // Arrange
+    AtomicInteger upstreamCalls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    ResponseEntity<String> upstreamResponse = ResponseEntity.ok("Shared Response");
+
+    // Act
+    CompletableFuture<ResponseEntity<String>> leader = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> {
+          upstreamCalls.incrementAndGet();
+          awaitQuietly(release);
+          return upstreamResponse;
+        }));
+    waitUntil(() -> requestCoalescer.inFlightCount() == 1);
+    CompletableFuture<ResponseEntity<String>> follower = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> {
+          upstreamCalls.incrementAndGet();
+          return ResponseEntity.ok("Unexpected Response");
+        }));
+    waitUntil(() -> joinedCount() == 1.0);
+    release.countDown();
+
+    // Assert
+    assertSame(upstreamResponse, leader.get(5, TimeUnit.SECONDS));
+    assertSame(upstreamResponse, follower.get(5, TimeUnit.SECONDS));
+    assertEquals(1, upstreamCalls.get());
+    assertEquals(0, requestCoalescer.inFlightCount());
+  }
+
+  @Test
+  void testExecute_failureIsPropagated() {
+    // Act & Assert
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> {
+          throw new IllegalStateException("Connection error");
+        }));
+    assertEquals("Connection error", exception.getMessage());
+    assertEquals(0, requestCoalescer.inFlightCount());
+  }
+
+  @Test
+  void testExecute_leaderErrorReleasesFollowers() throws Exception {
+    // Arrange
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Act
+    CompletableFuture<ResponseEntity<String>> leader = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> {
+          awaitQuietly(release);
+          throw new AssertionError("Leader failed");
+        }));
+    waitUntil(() -> requestCoalescer.inFlightCount() == 1);
+    CompletableFuture<ResponseEntity<String>> follower = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> ResponseEntity.ok("Unexpected Response")));
+    waitUntil(() -> joinedCount() == 1.0);
+    release.countDown();
+
+    // Assert
+    ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+    ExecutionException followerFailure =
+        assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(AssertionError.class, leaderFailure.getCause());
+    assertInstanceOf(AssertionError.class, followerFailure.getCause());
+    assertEquals(0, requestCoalescer.inFlightCount());
+  }
+
+  @Test
+  void testExecute_followerGivesUpAtItsDeadline() throws Exception {
+    // Arrange
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<ResponseEntity<String>> leader = CompletableFuture.supplyAsync(
+        () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> {
+          awaitQuietly(release);
+          return ResponseEntity.ok("Late Response");
+        }));
+    waitUntil(() -> requestCoalescer.inFlightCount() == 1);
+
+    // Act & Assert
+    try {
+      RequestDeadline.startIn(50);
+      assertThrows(DeadlineExceededException.class,
+          () -> requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> ResponseEntity.ok("Unexpected Response")));
+    } finally {
+      RequestDeadline.clear();
+      release.countDown();
+    }
+    assertEquals("Late Response", leader.get(5, TimeUnit.SECONDS).getBody());
+  }
+
+  @Test
+  void testExecute_sequentialCallsAreNotCoalesced() {
+    // Arrange
+    AtomicInteger upstreamCalls = new AtomicInteger();
+
+    // Act
+    requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> ResponseEntity.ok("First " + upstreamCalls.incrementAndGet()));
+    requestCoalescer.execute(TENANT_ID, ENDPOINT, () -> ResponseEntity.ok("Second " + upstreamCalls.incrementAndGet()));
+
+    // Assert
+    assertEquals(2, upstreamCalls.get());
+    assertEquals(2.0, meterRegistry.get("tenant.requests.coalescing").tag("role", "leader").counter().count());
+  }
+
+  private double joinedCount() {
+    var counter = meterRegistry.find("tenant.requests.coalescing").tag("role", "joined").counter();
+    return counter == null ? 0.0 : counter.count();
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestDeadlineFilterTest {
+
+  private final RequestDeadlineFilter filter = new RequestDeadlineFilter();
+
+  @Test
+  void testDeadlineHeaderBoundsTheRequestAndIsPropagated() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/route");
+    request.addHeader(RequestDeadline.HEADER, "500");
+    AtomicLong remaining = new AtomicLong();
+    HttpHeaders upstreamHeaders = new HttpHeaders();
+
+    // Act
+    filter.doFilter(request, new MockHttpServletResponse(), (req, resp) -> {
+      remaining.set(RequestDeadline.remainingMillis());
+      RequestDeadline.propagate(upstreamHeaders);
+    });
+
+    // Assert
+    assertTrue(remaining.get() > 0 && remaining.get() <= 500);
+    assertTrue(Long.parseLong(upstreamHeaders.getFirst(RequestDeadline.HEADER)) <= 500);
+    assertNull(RequestDeadline.current());
+  }
+
+  @Test
+  void testMissingOrMalformedHeaderLeavesNoDeadline() throws Exception {
+    // Arrange
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/route");
+    request.addHeader(RequestDeadline.HEADER, "soon");
+    HttpHeaders upstreamHeaders = new HttpHeaders();
+
+    // Act
+    filter.doFilter(request, new MockHttpServletResponse(), (req, resp) -> RequestDeadline.propagate(upstreamHeaders));
+
+    // Assert
+    assertEquals(Long.MAX_VALUE, RequestDeadline.remainingMillis());
+    assertNull(upstreamHeaders.getFirst(RequestDeadline.HEADER));
+  }
+}
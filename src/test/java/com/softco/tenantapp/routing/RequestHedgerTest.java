@@ -0,0 +1,117 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.HedgingProperties;
+import com.softco.tenantapp.config.LoadBalancerProperties;
+import com.softco.tenantapp.config.RoutingTableProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+
+class RequestHedgerTest {
+
+  private static final String TENANT_ID = "tenant1";
+
+  private MetricsService metricsService;
+  private LatencyTracker latencyTracker;
+  private RequestHedger requestHedger;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    latencyTracker = new LatencyTracker(new RoutingTableProperties());
+    requestHedger = new RequestHedger(new HedgingProperties(),
+        new EndpointBalancer(new LoadBalancerProperties(), metricsService), latencyTracker, metricsService,
+        new ThreadPoolTaskExecutorBuilder());
+  }
+
+  @AfterEach
+  void tearDown() {
+    requestHedger.shutdown();
+  }
+
+  private TenantDataModel tenant(boolean hedgeRequests) {
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+    tenant.setHedgeRequests(hedgeRequests);
+    tenant.setEndpoints(List.of(new TenantEndpointModel("https://tenant1-a.com", 1),
+        new TenantEndpointModel("https://tenant1-b.com", 1)));
+    return tenant;
+  }
+
+  private void primeLatency(long millis) {
+    for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+      latencyTracker.record(TENANT_ID, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+  }
+
+  @Test
+  void testUnhedgedTenantRunsOnCallerThreadAndRecordsLatency() {
+    // Arrange
+    Thread caller = Thread.currentThread();
+
+    // Act
+    for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+      assertEquals(caller, requestHedger.execute(tenant(false), url -> Thread.currentThread()));
+    }
+
+    // Assert
+    assertTrue(latencyTracker.percentile(TENANT_ID, 0.95) >= 0);
+  }
+
+  @Test
+  void testFastPrimaryIsNotHedged() {
+    // Arrange
+    primeLatency(50);
+
+    // Act
+    String result = requestHedger.execute(tenant(true), url -> "primary");
+
+    // Assert
+    assertEquals("primary", result);
+    verify(metricsService, never()).recordHedge(TENANT_ID, "sent");
+  }
+
+  @Test
+  void testSlowPrimaryIsHedgedOnAnotherEndpointAndCancelled() throws Exception {
+    // Arrange
+    primeLatency(1);
+    AtomicInteger calls = new AtomicInteger();
+    AtomicReference<String> primaryUrl = new AtomicReference<>();
+    CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+    // Act
+    String result = requestHedger.execute(tenant(true), url -> {
+      if (calls.getAndIncrement() > 0) {
+        return url;
+      }
+      primaryUrl.set(url);
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        primaryInterrupted.countDown();
+      }
+      return "slow";
+    });
+
+    // Assert
+    assertNotEquals(primaryUrl.get(), result);
+    assertTrue(primaryInterrupted.await(5, TimeUnit.SECONDS));
+    verify(metricsService).recordHedge(TENANT_ID, "sent");
+    verify(metricsService).recordHedge(TENANT_ID, "won");
+  }
+}
@@ -0,0 +1,192 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.config.ResponseCacheProperties;
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class ResponseCacheTest {
+
+  private static final String TENANT_ID = "tenant1";
+  private static final String ENDPOINT = "https://tenant1-service.com/resource";
+
+  private SimpleMeterRegistry meterRegistry;
+  private ResponseCache responseCache;
+  private List<HttpHeaders> upstreamRequests;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    responseCache = new ResponseCache(new ResponseCacheProperties(),
+        new MetricsService(meterRegistry, new TenantMetricsProperties()), new ThreadPoolTaskExecutorBuilder());
+    upstreamRequests = new CopyOnWriteArrayList<>();
+  }
+
+  @AfterEach
+  void tearDown() {
+    responseCache.shutdown();
+  }
+
+  @Test
+  void testGet_freshEntryIsServedFromCache() {
+    // Arrange
+    TenantDataModel tenant = tenant(60, null);
+    var upstream = upstreamReturning(ResponseEntity.ok("Upstream Response"));
+
+    // Act
+    responseCache.get(tenant, ENDPOINT, upstream);
+    ResponseEntity<String> result = responseCache.get(tenant, ENDPOINT, upstream);
+
+    // Assert
+    assertEquals("Upstream Response", result.getBody());
+    assertEquals(1, upstreamRequests.size());
+    assertEquals(1.0, lookups("hit"));
+    assertEquals(1.0, lookups("miss"));
+  }
+
+  @Test
+  void testGet_noStoreIsNotCached() {
+    // Arrange
+    TenantDataModel tenant = tenant(60, null);
+    var upstream = upstreamReturning(ResponseEntity.ok().cacheControl(
+        CacheControl.noStore()).body("Private Response"));
+
+    // Act
+    responseCache.get(tenant, ENDPOINT, upstream);
+    responseCache.get(tenant, ENDPOINT, upstream);
+
+    // Assert
+    assertEquals(2, upstreamRequests.size());
+  }
+
+  @Test
+  void testGet_expiredEntryIsRevalidatedWithETag() {
+    // Arrange
+    TenantDataModel tenant = tenant(0, null);
+    responseCache.get(tenant, ENDPOINT, upstreamReturning(ResponseEntity.ok().eTag("\"v1\"").body("Versioned")));
+
+    // Act
+    ResponseEntity<String> result = responseCache.get(tenant, ENDPOINT,
+        upstreamReturning(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build()));
+
+    // Assert
+    assertEquals("Versioned", result.getBody());
+    assertEquals(2, upstreamRequests.size());
+    assertTrue(upstreamRequests.get(0).isEmpty());
+    assertEquals(List.of("\"v1\""), upstreamRequests.get(1).getIfNoneMatch());
+    assertEquals(1.0, lookups("revalidate"));
+  }
+
+  @Test
+  void testGet_staleEntryIsServedWhileRefreshing() throws InterruptedException {
+    // Arrange
+    TenantDataModel tenant = tenant(0, 60);
+    responseCache.get(tenant, ENDPOINT, upstreamReturning(ResponseEntity.ok("Old Response")));
+
+    // Act
+    ResponseEntity<String> stale = responseCache.get(tenant, ENDPOINT,
+        upstreamReturning(ResponseEntity.ok("New Response")));
+    waitForUpstreamRequests(2);
+
+    // Assert
+    assertEquals("Old Response", stale.getBody());
+    assertEquals(1.0, lookups("stale"));
+  }
+
+  @Test
+  void testGet_staleEntryIsRefreshedWithTheRefreshCall() throws InterruptedException {
+    // Arrange
+    TenantDataModel tenant = tenant(0, 60);
+    responseCache.get(tenant, ENDPOINT, upstreamReturning(ResponseEntity.ok("Old Response")));
+    List<HttpHeaders> requestCalls = new CopyOnWriteArrayList<>();
+
+    // Act
+    ResponseEntity<String> stale = responseCache.get(tenant, ENDPOINT, requestHeaders -> {
+      requestCalls.add(requestHeaders);
+      return ResponseEntity.ok("Request Response");
+    }, upstreamReturning(ResponseEntity.ok("Refreshed Response")));
+    waitForUpstreamRequests(2);
+
+    // Assert
+    assertEquals("Old Response", stale.getBody());
+    assertTrue(requestCalls.isEmpty());
+  }
+
+  @Test
+  void testGet_noCacheIsRevalidatedInsteadOfServedStale() {
+    // Arrange
+    TenantDataModel tenant = tenant(60, 60);
+    responseCache.get(tenant, ENDPOINT, upstreamReturning(ResponseEntity.ok().cacheControl(CacheControl.noCache())
+        .eTag("\"v1\"").body("Versioned")));
+
+    // Act
+    ResponseEntity<String> result = responseCache.get(tenant, ENDPOINT,
+        upstreamReturning(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build()));
+
+    // Assert
+    assertEquals("Versioned", result.getBody());
+    assertEquals(2, upstreamRequests.size());
+    assertEquals(List.of("\"v1\""), upstreamRequests.get(1).getIfNoneMatch());
+    assertEquals(1.0, lookups("revalidate"));
+    assertNull(meterRegistry.find("tenant.response.cache.lookups").tag("result", "stale").counter());
+  }
+
+  @Test
+  void testOnTenantChanged_dropsTenantCache() {
+    // Arrange
+    TenantDataModel tenant = tenant(60, null);
+    var upstream = upstreamReturning(ResponseEntity.ok("Upstream Response"));
+    responseCache.get(tenant, ENDPOINT, upstream);
+
+    // Act
+    responseCache.onTenantChanged(new TenantChangedEvent(TENANT_ID, tenant));
+    responseCache.get(tenant, ENDPOINT, upstream);
+
+    // Assert
+    assertEquals(2, upstreamRequests.size());
+  }
+
+  private TenantDataModel tenant(Integer ttlSeconds, Integer staleSeconds) {
+    TenantDataModel tenant = new TenantDataModel(TENANT_ID, ENDPOINT);
+    tenant.setCacheTtlSeconds(ttlSeconds);
+    tenant.setCacheStaleSeconds(staleSeconds);
+    return tenant;
+  }
+
+  private Function<HttpHeaders, ResponseEntity<String>> upstreamReturning(ResponseEntity<String> response) {
+    return requestHeaders -> {
+      upstreamRequests.add(requestHeaders);
+      return response;
+    };
+  }
+
+  private double lookups(String result) {
+    return meterRegistry.get("tenant.response.cache.lookups").tag("result", result).counter().count();
+  }
+
+  private void waitForUpstreamRequests(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (upstreamRequests.size() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(expected, upstreamRequests.size());
+  }
+}
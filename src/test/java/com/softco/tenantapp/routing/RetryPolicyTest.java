@@ -0,0 +1,153 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.RetryProperties;
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RetryPolicyTest {
+
+  private MetricsService metricsService;
+  private RetryProperties properties;
+  private RetryPolicy retryPolicy;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    properties = new RetryProperties();
+    properties.setInitialBackoff(Duration.ofMillis(1));
+    properties.setMaxBackoff(Duration.ofMillis(5));
+    retryPolicy = new RetryPolicy(properties, metricsService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestDeadline.clear();
+  }
+
+  private TenantDataModel tenant(Integer maxRetries) {
+    TenantDataModel tenant = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    tenant.setMaxRetries(maxRetries);
+    return tenant;
+  }
+
+  private static RuntimeException serverError() {
+    return new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void testRetriesServerErrorsUntilSuccess() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    String result = retryPolicy.execute(tenant(2), () -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw serverError();
+      }
+      return "ok";
+    });
+
+    // Assert
+    assertEquals("ok", result);
+    assertEquals(3, attempts.get());
+    verify(metricsService, times(2)).recordRetry("tenant1", "retried");
+  }
+
+  @Test
+  void testGivesUpAfterMaxRetries() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThrows(HttpServerErrorException.class, () -> retryPolicy.execute(tenant(1), () -> {
+      attempts.incrementAndGet();
+      throw serverError();
+    }));
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void testNoRetriesByDefault() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThrows(HttpServerErrorException.class, () -> retryPolicy.execute(tenant(null), () -> {
+      attempts.incrementAndGet();
+      throw serverError();
+    }));
+    assertEquals(1, attempts.get());
+  }
+
+  @Test
+  void testRetryBudgetStopsRetryStorm() {
+    // Arrange
+    properties.setBudgetPercent(0);
+    properties.setBudgetMaxTokens(3);
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act
+    for (int i = 0; i < 10; i++) {
+      assertThrows(HttpServerErrorException.class, () -> retryPolicy.execute(tenant(1), () -> {
+        attempts.incrementAndGet();
+        throw serverError();
+      }));
+    }
+
+    // Assert: 10 calls plus the 3 retries the reserve allows
+    assertEquals(13, attempts.get());
+    verify(metricsService, times(7)).recordRetry("tenant1", "budget_exhausted");
+  }
+
+  @Test
+  void testNoRetryOnceDeadlineHasPassed() {
+    // Arrange
+    AtomicInteger attempts = new AtomicInteger();
+
+    // Act & Assert
+    assertThrows(HttpServerErrorException.class, () -> retryPolicy.execute(tenant(3), () -> {
+      attempts.incrementAndGet();
+      RequestDeadline.startIn(0); // the caller gives up while the attempt is in flight
+      throw serverError();
+    }));
+    assertEquals(1, attempts.get());
+    verify(metricsService).recordRetry("tenant1", "deadline");
+  }
+
+  @Test
+  void testExpiredDeadlineFailsFast() {
+    // Arrange
+    RequestDeadline.startIn(0);
+
+    // Act & Assert
+    assertThrows(DeadlineExceededException.class, () -> retryPolicy.execute(tenant(3), () -> "unused"));
+  }
+
+  @Test
+  void testOnlyConnectErrorsAndServerErrorsAreRetryable() {
+    assertTrue(RetryPolicy.isRetryable(serverError()));
+    assertTrue(RetryPolicy.isRetryable(new ResourceAccessException("I/O error", new ConnectException("refused"))));
+    assertFalse(RetryPolicy.isRetryable(new ResourceAccessException("I/O error", new SocketTimeoutException())));
+    assertFalse(RetryPolicy.isRetryable(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+  }
+}
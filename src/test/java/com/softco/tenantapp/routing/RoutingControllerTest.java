@@ -1,13 +1,23 @@
 package com.softco.tenantapp.routing;
 
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.exception.RateLimitExceededException;
 import com.softco.tenantapp.exception.RequestProcessingException;
 import com.softco.tenantapp.exception.TenantNotFoundException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.metrics.RequestTimings;
 import com.softco.tenantapp.model.ApiResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +35,9 @@ class RoutingControllerTest {
   @MockitoBean
   private RoutingService routingService;
 
+  @MockitoBean
+  private MetricsService metricsService;
+
   @Test
   void testRouteRequest_success() throws Exception {
     // Arrange
@@ -32,7 +45,7 @@ class RoutingControllerTest {
     String responseBody = "Successfully routed";
     ApiResponse<String> apiResponse = new ApiResponse<>(responseBody);
 
-    when(routingService.routeRequest(tenantId)).thenReturn(apiResponse);
+    when(routingService.routeRequest(eq(tenantId), any())).thenReturn(apiResponse);
 
     // Act & Assert
     mockMvc.perform(get("/api/route")
@@ -40,7 +53,10 @@ class RoutingControllerTest {
             .accept(MediaType.APPLICATION_JSON))
         .andExpect(status().isOk())
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-        .andExpect(jsonPath("$.data").value(responseBody));
+        .andExpect(jsonPath("$.data").value(responseBody))
+        .andExpect(header().string("Server-Timing",
+            matchesPattern("serialize;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}")));
+    verify(metricsService).recordRequestStage(eq(tenantId), eq(RequestTimings.Stage.SERIALIZATION), anyLong());
   }
 
   @Test
@@ -57,7 +73,7 @@ class RoutingControllerTest {
   void testRouteRequest_tenantNotFound() throws Exception {
     // Arrange
     String tenantId = "nonexistent";
-    when(routingService.routeRequest(tenantId)).thenThrow(new TenantNotFoundException("Tenant with ID " + tenantId + " not found"));
+    when(routingService.routeRequest(eq(tenantId), any())).thenThrow(new TenantNotFoundException("Tenant with ID " + tenantId + " not found"));
 
     // Act & Assert
     mockMvc.perform(get("/api/route")
@@ -72,7 +88,7 @@ class RoutingControllerTest {
   void testRouteRequest_requestFailure() throws Exception {
     // Arrange
     String tenantId = "tenant1";
-    when(routingService.routeRequest(tenantId)).thenThrow(new RequestProcessingException("Routing failed for tenant ID " + tenantId));
+    when(routingService.routeRequest(eq(tenantId), any())).thenThrow(new RequestProcessingException("Routing failed for tenant ID " + tenantId));
 
     // Act & Assert
     mockMvc.perform(get("/api/route")
@@ -82,5 +98,37 @@ class RoutingControllerTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.message").value("Routing failed for tenant ID " + tenantId));
   }
-}
 
+  @Test
+  void testRouteRequest_failureCarriesServerTiming() throws Exception {
+    // Arrange
+    String tenantId = "tenant1";
+    when(routingService.routeRequest(eq(tenantId), any())).thenAnswer(invocation -> {
+      invocation.<RequestTimings>getArgument(1).record(RequestTimings.Stage.LOOKUP, 41_000);
+      throw new DeadlineExceededException("Request deadline exceeded for tenant ID " + tenantId);
+    });
+
+    // Act & Assert
+    mockMvc.perform(get("/api/route")
+            .header("X-Tenant-ID", tenantId)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isGatewayTimeout())
+        .andExpect(header().string("Server-Timing", matchesPattern("lookup;dur=0\\.041, total;dur=\\d+\\.\\d{3}")));
+  }
+
+  @Test
+  void testRouteRequest_rateLimited() throws Exception {
+    // Arrange
+    String tenantId = "tenant1";
+    when(routingService.routeRequest(eq(tenantId), any()))
+        .thenThrow(new RateLimitExceededException("Rate limit exceeded for tenant ID " + tenantId, 2));
+
+    // Act & Assert
+    mockMvc.perform(get("/api/route")
+            .header("X-Tenant-ID", tenantId)
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isTooManyRequests())
+        .andExpect(header().string("Retry-After", "2"))
+        .andExpect(jsonPath("$.message").value("Rate limit exceeded for tenant ID " + tenantId));
+  }
+}
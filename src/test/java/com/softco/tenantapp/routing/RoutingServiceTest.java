@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -12,12 +14,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.RateLimitExceededException;
 import com.softco.tenantapp.exception.RequestProcessingException;
 import com.softco.tenantapp.exception.TenantNotFoundException;
 import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.metrics.RequestTimings;
+import com.softco.tenantapp.metrics.RequestTimings.Stage;
 import com.softco.tenantapp.model.ApiResponse;
 import com.softco.tenantapp.model.TenantDataModel;
 import com.softco.tenantapp.tenantdata.TenantDataService;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -37,12 +46,51 @@ class RoutingServiceTest {
   @Mock
   private MetricsService metricsService;
 
+  @Mock
+  private RequestCoalescer requestCoalescer;
+
+  @Mock
+  private ResponseCache responseCache;
+
+  @Mock
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+
+  @Mock
+  private TenantRateLimiter tenantRateLimiter;
+
+  @Mock
+  private TenantBulkhead tenantBulkhead;
+
+  @Mock
+  private RequestHedger requestHedger;
+
+  @Mock
+  private RetryPolicy retryPolicy;
+
+  @Mock
+  private AdaptiveTimeouts adaptiveTimeouts;
+
+  @Mock
+  private FairScheduler fairScheduler;
+
   @InjectMocks
   private RoutingService routingService;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(circuitBreakerRegistry.execute(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    when(tenantBulkhead.execute(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    when(retryPolicy.execute(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    when(adaptiveTimeouts.apply(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    when(fairScheduler.execute(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    when(requestHedger.execute(any(), any())).thenAnswer(invocation -> invocation
+        .<Function<String, ?>>getArgument(1).apply(invocation.<TenantDataModel>getArgument(0).getResourceEndpoint()));
   }
 
   @Test
@@ -65,8 +113,101 @@ class RoutingServiceTest {
     assertEquals(responseBody, result.getData());
     verify(tenantDataService, times(1)).getTenantById(tenantId);
     verify(metricsService, times(1)).incrementTenantRequestCount(tenantId);
-    verify(metricsService, times(1)).recordTenantRequestLatency(eq(tenantId), anyDouble());
+    verify(metricsService, times(1)).recordTenantRequestLatency(eq(tenantId), anyLong());
     verify(restTemplate, times(1)).getForEntity(endpoint, String.class);
+    verifyNoInteractions(requestCoalescer);
+  }
+
+  @Test
+  void testRouteRequest_RecordsStageTimings() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+    RequestTimings timings = new RequestTimings();
+
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(new TenantDataModel(tenantId, endpoint));
+    when(restTemplate.getForEntity(endpoint, String.class)).thenAnswer(invocation -> {
+      // What the HTTP client's interceptors report for the call
+      RequestTimings.connectionAcquired(1_000);
+      RequestTimings.responseHeadersReceived(2_000);
+      return ResponseEntity.ok("Success Response");
+    });
+
+    // Act
+    routingService.routeRequest(tenantId, timings);
+
+    // Assert
+    assertTrue(timings.nanos(Stage.LOOKUP) >= 0);
+    assertEquals(1_000, timings.nanos(Stage.CONNECTION));
+    assertEquals(2_000, timings.nanos(Stage.TTFB));
+    assertTrue(timings.nanos(Stage.BODY) >= 0);
+    assertTrue(timings.nanos(Stage.SERIALIZATION) < 0);
+    verify(metricsService, times(1)).recordRequestStages(tenantId, timings);
+  }
+
+  @Test
+  void testRouteRequest_RecordsStageTimingsOfFailedRequest() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+    RequestTimings timings = new RequestTimings();
+
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(new TenantDataModel(tenantId, endpoint));
+    when(restTemplate.getForEntity(endpoint, String.class)).thenAnswer(invocation -> {
+      RequestTimings.connectionAcquired(1_000);
+      throw new RuntimeException("Read timed out");
+    });
+
+    // Act
+    assertThrows(RequestProcessingException.class, () -> routingService.routeRequest(tenantId, timings));
+
+    // Assert
+    assertTrue(timings.nanos(Stage.LOOKUP) >= 0);
+    assertEquals(1_000, timings.nanos(Stage.CONNECTION));
+    assertTrue(timings.nanos(Stage.TTFB) < 0);
+    verify(metricsService, times(1)).recordRequestStages(tenantId, timings);
+  }
+
+  @Test
+  void testRouteRequest_CoalescingTenant() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+
+    TenantDataModel tenantData = new TenantDataModel(tenantId, endpoint);
+    tenantData.setCoalesceRequests(true);
+
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(tenantData);
+    when(requestCoalescer.execute(eq(tenantId), eq(endpoint), any())).thenReturn(ResponseEntity.ok("Shared Response"));
+
+    // Act
+    ApiResponse<String> result = routingService.routeRequest(tenantId);
+
+    // Assert
+    assertEquals("Shared Response", result.getData());
+    verify(requestCoalescer, times(1)).execute(eq(tenantId), eq(endpoint), any());
+  }
+
+  @Test
+  void testRouteRequest_CachingTenant() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+
+    TenantDataModel tenantData = new TenantDataModel(tenantId, endpoint);
+    tenantData.setCacheTtlSeconds(60);
+
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(tenantData);
+    when(responseCache.isEnabledFor(tenantData)).thenReturn(true);
+    when(responseCache.get(eq(tenantData), eq(endpoint), any(), any()))
+        .thenReturn(ResponseEntity.ok("Cached Response"));
+
+    // Act
+    ApiResponse<String> result = routingService.routeRequest(tenantId);
+
+    // Assert
+    assertEquals("Cached Response", result.getData());
+    verifyNoInteractions(restTemplate);
   }
 
   @Test
@@ -99,8 +240,60 @@ class RoutingServiceTest {
 
     verify(tenantDataService, times(1)).getTenantById(tenantId);
     verify(metricsService, times(1)).incrementTenantRequestCount(tenantId);
-    verify(metricsService, never()).recordTenantRequestLatency(eq(tenantId), anyDouble());
+    verify(metricsService, never()).recordTenantRequestLatency(eq(tenantId), anyLong());
     verify(restTemplate, times(1)).getForEntity(endpoint, String.class);
   }
-}
 
+  @Test
+  void testRouteRequest_CircuitOpen() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+
+    TenantDataModel tenantData = new TenantDataModel(tenantId, endpoint);
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(tenantData);
+    when(circuitBreakerRegistry.execute(eq(tenantData), any(), any()))
+        .thenThrow(new CircuitOpenException("Circuit open for tenant ID " + tenantId));
+
+    // Act & Assert
+    assertThrows(CircuitOpenException.class, () -> routingService.routeRequest(tenantId));
+
+    verify(metricsService, never()).recordTenantRequestLatency(eq(tenantId), anyLong());
+    verifyNoInteractions(restTemplate);
+  }
+
+  @Test
+  void testRouteRequest_RateLimited() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+
+    TenantDataModel tenantData = new TenantDataModel(tenantId, endpoint);
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(tenantData);
+    doThrow(new RateLimitExceededException("Rate limit exceeded for tenant ID " + tenantId, 1))
+        .when(tenantRateLimiter).acquire(tenantData);
+
+    // Act & Assert
+    assertThrows(RateLimitExceededException.class, () -> routingService.routeRequest(tenantId));
+
+    verify(metricsService, never()).incrementTenantRequestCount(tenantId);
+    verifyNoInteractions(restTemplate);
+  }
+
+  @Test
+  void testRouteRequest_BulkheadFull() {
+    // Arrange
+    String tenantId = "tenant1";
+    String endpoint = "https://tenant1-service.com/resource";
+
+    TenantDataModel tenantData = new TenantDataModel(tenantId, endpoint);
+    when(tenantDataService.getTenantById(tenantId)).thenReturn(tenantData);
+    when(tenantBulkhead.execute(eq(tenantData), any()))
+        .thenThrow(new BulkheadFullException("Too many concurrent requests for tenant ID " + tenantId));
+
+    // Act & Assert
+    assertThrows(BulkheadFullException.class, () -> routingService.routeRequest(tenantId));
+
+    verifyNoInteractions(restTemplate, circuitBreakerRegistry);
+  }
+}
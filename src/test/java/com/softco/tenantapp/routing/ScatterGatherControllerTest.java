@@ -0,0 +1,74 @@
+package com.softco.tenantapp.routing;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.TenantNotFoundException;
+import com.softco.tenantapp.model.ScatterResult;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(ScatterGatherController.class)
+class ScatterGatherControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private ScatterGatherService scatterGatherService;
+
+  @Test
+  void testScatter_streamsOneLinePerTenant() throws Exception {
+    // Arrange
+    doAnswer(invocation -> {
+      Consumer<ScatterResult> sink = invocation.getArgument(1);
+      sink.accept(ScatterResult.success("tenant1", "Response 1"));
+      sink.accept(ScatterResult.failure("tenant2", 404,
+          new TenantNotFoundException("Tenant with ID tenant2 not found")));
+      return null;
+    }).when(scatterGatherService).routeAll(eq(List.of("tenant1", "tenant2")), any());
+
+    // Act & Assert
+    mockMvc.perform(post("/api/scatter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tenantIds\":[\"tenant1\",\"tenant2\"]}"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(allOf(
+            startsWith("{\"tenantId\":\"tenant1\",\"status\":200,\"data\":\"Response 1\"}\n"),
+            containsString("{\"tenantId\":\"tenant2\",\"status\":404,\"error\":{"),
+            endsWith("}\n"))));
+  }
+
+  @Test
+  void testScatter_invalidRequestIsAPlainBadRequest() throws Exception {
+    // Arrange
+    doThrow(new InvalidRequestException("At least one tenant ID is required"))
+        .when(scatterGatherService).routeAll(eq(List.of()), any());
+
+    // Act & Assert
+    mockMvc.perform(post("/api/scatter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"tenantIds\":[]}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.message").value("At least one tenant ID is required"));
+  }
+}
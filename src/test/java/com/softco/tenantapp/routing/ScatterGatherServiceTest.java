@@ -0,0 +1,172 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softco.tenantapp.config.ScatterGatherProperties;
+import com.softco.tenantapp.exception.CircuitOpenException;
+import com.softco.tenantapp.exception.DeadlineExceededException;
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.RateLimitExceededException;
+import com.softco.tenantapp.exception.RequestProcessingException;
+import com.softco.tenantapp.model.ApiResponse;
+import com.softco.tenantapp.model.ScatterResult;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.http.HttpStatus;
+
+class ScatterGatherServiceTest {
+
+  private TenantDataService tenantDataService;
+  private RoutingService routingService;
+  private ScatterGatherProperties properties;
+  private ScatterGatherService scatterGatherService;
+  private final List<ScatterResult> results = Collections.synchronizedList(new ArrayList<>());
+
+  @BeforeEach
+  void setUp() {
+    tenantDataService = mock(TenantDataService.class);
+    routingService = mock(RoutingService.class);
+    properties = new ScatterGatherProperties();
+    properties.setParallelism(2);
+    scatterGatherService = new ScatterGatherService(properties, tenantDataService, routingService,
+        new ThreadPoolTaskExecutorBuilder());
+    when(tenantDataService.getTenantsByIds(any())).thenAnswer(invocation -> invocation
+        .<Collection<String>>getArgument(0).stream()
+        .filter(tenantId -> !tenantId.startsWith("unknown"))
+        .collect(Collectors.toMap(Function.identity(),
+            tenantId -> new TenantDataModel(tenantId, "https://" + tenantId + "-service.com"))));
+  }
+
+  @AfterEach
+  void tearDown() {
+    scatterGatherService.shutdown();
+  }
+
+  private ScatterResult resultOf(String tenantId) {
+    return results.stream().filter(result -> result.getTenantId().equals(tenantId)).findFirst().orElseThrow();
+  }
+
+  @Test
+  void testEveryTenantGetsOneResultWithPartialFailuresInline() {
+    // Arrange
+    when(routingService.routeRequest(any(TenantDataModel.class))).thenAnswer(invocation -> {
+      TenantDataModel tenant = invocation.getArgument(0);
+      if (tenant.getTenantId().equals("tenant2")) {
+        throw new CircuitOpenException("Circuit open for tenant ID tenant2");
+      }
+      return new ApiResponse<>("hello " + tenant.getTenantId());
+    });
+
+    // Act
+    scatterGatherService.routeAll(List.of("tenant1", "tenant2", "unknown1", "tenant3", "tenant1"), results::add);
+
+    // Assert
+    assertEquals(4, results.size());
+    assertEquals(200, resultOf("tenant1").getStatus());
+    assertEquals("hello tenant1", resultOf("tenant1").getData());
+    assertEquals(503, resultOf("tenant2").getStatus());
+    assertEquals("CircuitOpenException", resultOf("tenant2").getError().getCause());
+    assertNull(resultOf("tenant2").getData());
+    assertEquals(404, resultOf("unknown1").getStatus());
+    assertEquals(200, resultOf("tenant3").getStatus());
+    verify(tenantDataService, times(1)).getTenantsByIds(any());
+    verify(routingService, times(3)).routeRequest(any(TenantDataModel.class));
+  }
+
+  @Test
+  void testCallsRunInParallelUpToTheLimit() throws Exception {
+    // Arrange
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    when(routingService.routeRequest(any(TenantDataModel.class))).thenAnswer(invocation -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      bothStarted.countDown();
+      bothStarted.await(5, TimeUnit.SECONDS);
+      inFlight.decrementAndGet();
+      return new ApiResponse<>("ok");
+    });
+
+    // Act
+    scatterGatherService.routeAll(List.of("tenant1", "tenant2", "tenant3", "tenant4", "tenant5"), results::add);
+
+    // Assert
+    assertEquals(5, results.size());
+    assertEquals(2, maxInFlight.get());
+    assertTrue(results.stream().allMatch(result -> result.getStatus() == 200));
+  }
+
+  @Test
+  void testCallThatDoesNotFitTheQueueGets503() {
+    // Arrange
+    properties.setThreads(1);
+    properties.setQueueCapacity(0);
+    ScatterGatherService saturated = new ScatterGatherService(properties, tenantDataService, routingService,
+        new ThreadPoolTaskExecutorBuilder());
+    CountDownLatch rejected = new CountDownLatch(1);
+    when(routingService.routeRequest(any(TenantDataModel.class))).thenAnswer(invocation -> {
+      rejected.await(5, TimeUnit.SECONDS);
+      return new ApiResponse<>("ok");
+    });
+
+    // Act
+    try {
+      saturated.routeAll(List.of("tenant1", "tenant2"), result -> {
+        results.add(result);
+        if (result.getStatus() == 503) {
+          rejected.countDown();
+        }
+      });
+    } finally {
+      saturated.shutdown();
+    }
+
+    // Assert
+    assertEquals(200, resultOf("tenant1").getStatus());
+    assertEquals(503, resultOf("tenant2").getStatus());
+    assertEquals("BulkheadFullException", resultOf("tenant2").getError().getCause());
+    verify(routingService, times(1)).routeRequest(any(TenantDataModel.class));
+  }
+
+  @Test
+  void testRejectsEmptyAndOversizedRequests() {
+    // Arrange
+    properties.setMaxTenants(2);
+
+    // Act & Assert
+    assertThrows(InvalidRequestException.class, () -> scatterGatherService.routeAll(List.of(), results::add));
+    assertThrows(InvalidRequestException.class,
+        () -> scatterGatherService.routeAll(List.of("tenant1", "tenant2", "tenant3"), results::add));
+    assertTrue(results.isEmpty());
+  }
+
+  @Test
+  void testStatusMatchesTheSingleTenantEndpoint() {
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+        ScatterGatherService.statusOf(new RateLimitExceededException("limit", 1)));
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT, ScatterGatherService.statusOf(new DeadlineExceededException("late")));
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR,
+        ScatterGatherService.statusOf(new RequestProcessingException("failed", new RuntimeException())));
+  }
+}
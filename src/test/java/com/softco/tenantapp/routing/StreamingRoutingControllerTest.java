@@ -0,0 +1,64 @@
+package com.softco.tenantapp.routing;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(StreamingRoutingController.class)
+class StreamingRoutingControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private StreamingRoutingService streamingRoutingService;
+
+  @Test
+  void testRouteRequest_forwardsSubPath() throws Exception {
+    // Act
+    mockMvc.perform(put("/api/route/orders/42")
+            .header("X-Tenant-ID", "tenant1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"qty\":1}"))
+        .andExpect(status().isOk());
+
+    // Assert
+    verify(streamingRoutingService).forwardRequest(eq("tenant1"), eq("/orders/42"), any(HttpServletRequest.class),
+        any(HttpServletResponse.class));
+  }
+
+  @Test
+  void testRouteRequest_rejectsEncodedDotSegments() throws Exception {
+    // Act & Assert
+    mockMvc.perform(get(URI.create("/api/route/%2e%2e/%2E%2E/admin")).header("X-Tenant-ID", "tenant1"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Invalid path: /%2e%2e/%2E%2E/admin"));
+    mockMvc.perform(get(URI.create("/api/route/orders/..%2fadmin")).header("X-Tenant-ID", "tenant1"))
+        .andExpect(status().isBadRequest());
+    verifyNoInteractions(streamingRoutingService);
+  }
+
+  @Test
+  void testRouteRequest_MissingHeader() throws Exception {
+    // Act & Assert
+    mockMvc.perform(get("/api/route/orders"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Missing required header: X-Tenant-ID"));
+    verifyNoInteractions(streamingRoutingService);
+  }
+}
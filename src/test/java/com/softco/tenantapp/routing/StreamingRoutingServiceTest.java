@@ -0,0 +1,190 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softco.tenantapp.config.BulkheadProperties;
+import com.softco.tenantapp.config.CircuitBreakerProperties;
+import com.softco.tenantapp.config.LoadBalancerProperties;
+import com.softco.tenantapp.config.RoutingProperties;
+import com.softco.tenantapp.exception.ClientStreamException;
+import com.softco.tenantapp.exception.InvalidRequestException;
+import com.softco.tenantapp.exception.RequestProcessingException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class StreamingRoutingServiceTest {
+
+  private static final String TENANT_ID = "tenant1";
+  private static final String ENDPOINT = "https://tenant1-service.com/resource";
+
+  @Mock
+  private TenantDataService tenantDataService;
+
+  @Mock
+  private ClientHttpRequestFactory tenantRequestFactory;
+
+  @Mock
+  private ClientHttpRequest upstreamRequest;
+
+  @Mock
+  private ClientHttpResponse upstreamResponse;
+
+  @Mock
+  private MetricsService metricsService;
+
+  private HttpHeaders upstreamRequestHeaders;
+  private StreamingRoutingService streamingRoutingService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    upstreamRequestHeaders = new HttpHeaders();
+    when(tenantDataService.getTenantById(TENANT_ID)).thenReturn(new TenantDataModel(TENANT_ID, ENDPOINT));
+    when(upstreamRequest.getHeaders()).thenReturn(upstreamRequestHeaders);
+    streamingRoutingService = new StreamingRoutingService(tenantDataService, tenantRequestFactory, metricsService,
+        new TenantRateLimiter(metricsService), new RoutingProperties(),
+        new CircuitBreakerRegistry(new CircuitBreakerProperties(), metricsService),
+        new TenantBulkhead(new BulkheadProperties(), metricsService),
+        new EndpointBalancer(new LoadBalancerProperties(), metricsService));
+  }
+
+  @Test
+  void testForwardRequest_Get() throws IOException {
+    // Arrange
+    byte[] body = "{\"large\":\"payload\"}".getBytes(StandardCharsets.UTF_8);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.setContentLength(body.length);
+    headers.setETag("\"v1\"");
+    when(tenantRequestFactory.createRequest(URI.create(ENDPOINT), HttpMethod.GET)).thenReturn(upstreamRequest);
+    when(upstreamRequest.execute()).thenReturn(upstreamResponse);
+    when(upstreamResponse.getStatusCode()).thenReturn(HttpStatus.ACCEPTED);
+    when(upstreamResponse.getHeaders()).thenReturn(headers);
+    when(upstreamResponse.getBody()).thenReturn(new ByteArrayInputStream(body));
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/route");
+    servletRequest.addHeader("X-Tenant-ID", TENANT_ID);
+    servletRequest.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    // Act
+    streamingRoutingService.forwardRequest(TENANT_ID, "", servletRequest, servletResponse);
+
+    // Assert
+    assertEquals(HttpStatus.ACCEPTED.value(), servletResponse.getStatus());
+    assertEquals(MediaType.APPLICATION_JSON_VALUE, servletResponse.getContentType());
+    assertEquals(body.length, servletResponse.getContentLength());
+    assertEquals("\"v1\"", servletResponse.getHeader(HttpHeaders.ETAG));
+    assertEquals("{\"large\":\"payload\"}", servletResponse.getContentAsString());
+    assertEquals(MediaType.APPLICATION_JSON_VALUE, upstreamRequestHeaders.getFirst(HttpHeaders.ACCEPT));
+    assertNull(upstreamRequestHeaders.get("X-Tenant-ID"));
+    verify(upstreamResponse, times(1)).close();
+    verify(metricsService, times(1)).incrementTenantRequestCount(TENANT_ID);
+    verify(metricsService, times(1)).recordTenantRequestLatency(eq(TENANT_ID), anyLong());
+  }
+
+  @Test
+  void testForwardRequest_PostWithSubPathAndQuery() throws IOException {
+    // Arrange
+    URI expectedUri = URI.create(ENDPOINT + "/orders/42?expand=items");
+    ByteArrayOutputStream forwardedBody = new ByteArrayOutputStream();
+    when(tenantRequestFactory.createRequest(expectedUri, HttpMethod.POST)).thenReturn(upstreamRequest);
+    when(upstreamRequest.getBody()).thenReturn(forwardedBody);
+    when(upstreamRequest.execute()).thenReturn(upstreamResponse);
+    when(upstreamResponse.getStatusCode()).thenReturn(HttpStatus.CREATED);
+    when(upstreamResponse.getHeaders()).thenReturn(new HttpHeaders());
+    when(upstreamResponse.getBody()).thenReturn(new ByteArrayInputStream(new byte[0]));
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/route/orders/42");
+    servletRequest.setQueryString("expand=items");
+    servletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    servletRequest.setContent("{\"qty\":1}".getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    // Act
+    streamingRoutingService.forwardRequest(TENANT_ID, "/orders/42", servletRequest, servletResponse);
+
+    // Assert
+    assertEquals(HttpStatus.CREATED.value(), servletResponse.getStatus());
+    assertEquals("{\"qty\":1}", forwardedBody.toString(StandardCharsets.UTF_8));
+    assertEquals(9, upstreamRequestHeaders.getContentLength());
+    assertEquals(MediaType.APPLICATION_JSON, upstreamRequestHeaders.getContentType());
+  }
+
+  @Test
+  void testForwardRequest_RequestFailure() throws IOException {
+    // Arrange
+    when(tenantRequestFactory.createRequest(URI.create(ENDPOINT), HttpMethod.GET)).thenReturn(upstreamRequest);
+    when(upstreamRequest.execute()).thenThrow(new IOException("Connection error"));
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/route");
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    // Act & Assert
+    RequestProcessingException exception = assertThrows(RequestProcessingException.class,
+        () -> streamingRoutingService.forwardRequest(TENANT_ID, "", servletRequest, servletResponse));
+    assertTrue(exception.getMessage().contains("Routing failed for tenant ID tenant1"));
+    verify(metricsService, times(1)).incrementTenantRequestCount(TENANT_ID);
+    verify(metricsService, never()).recordTenantRequestLatency(eq(TENANT_ID), anyLong());
+  }
+
+  @Test
+  void testForwardRequest_MalformedQueryIsInvalidRequest() throws IOException {
+    // Arrange
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/route");
+    servletRequest.setQueryString("filter=%zz");
+    MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    // Act & Assert
+    assertThrows(InvalidRequestException.class,
+        () -> streamingRoutingService.forwardRequest(TENANT_ID, "", servletRequest, servletResponse));
+    verify(tenantRequestFactory, never()).createRequest(any(), any());
+  }
+
+  @Test
+  void testForwardRequest_ClientDisconnectIsNotAnUpstreamFailure() throws IOException {
+    // Arrange
+    when(tenantRequestFactory.createRequest(URI.create(ENDPOINT), HttpMethod.GET)).thenReturn(upstreamRequest);
+    when(upstreamRequest.execute()).thenReturn(upstreamResponse);
+    when(upstreamResponse.getStatusCode()).thenReturn(HttpStatus.OK);
+    when(upstreamResponse.getHeaders()).thenReturn(new HttpHeaders());
+    when(upstreamResponse.getBody()).thenReturn(new ByteArrayInputStream(new byte[] {1, 2, 3}));
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/route");
+    HttpServletResponse servletResponse = mock(HttpServletResponse.class);
+    when(servletResponse.getOutputStream()).thenThrow(new IOException("Broken pipe"));
+
+    // Act & Assert
+    ClientStreamException exception = assertThrows(ClientStreamException.class,
+        () -> streamingRoutingService.forwardRequest(TENANT_ID, "", servletRequest, servletResponse));
+    assertTrue(exception.getMessage().contains("Broken pipe"));
+    verify(upstreamResponse, times(1)).close();
+  }
+}
@@ -0,0 +1,103 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.softco.tenantapp.config.BulkheadProperties;
+import com.softco.tenantapp.exception.BulkheadFullException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantBulkheadTest {
+
+  private MetricsService metricsService;
+  private TenantBulkhead tenantBulkhead;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    BulkheadProperties properties = new BulkheadProperties();
+    properties.setMaxQueueDepth(0);
+    properties.setMaxWait(Duration.ofMillis(50));
+    tenantBulkhead = new TenantBulkhead(properties, metricsService);
+    executor = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private TenantDataModel tenant(String tenantId, int maxConcurrentCalls) {
+    TenantDataModel tenant = new TenantDataModel(tenantId, "https://" + tenantId + "-service.com");
+    tenant.setMaxConcurrentCalls(maxConcurrentCalls);
+    return tenant;
+  }
+
+  @Test
+  void testRejectsWhenTenantIsAtItsLimit() throws Exception {
+    // Arrange
+    TenantDataModel slowTenant = tenant("slow", 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<String> blocked = executor.submit(() -> tenantBulkhead.execute(slowTenant, () -> {
+      started.countDown();
+      await(release);
+      return "slow";
+    }));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // Act & Assert
+    assertThrows(BulkheadFullException.class, () -> tenantBulkhead.execute(slowTenant, () -> "rejected"));
+    assertEquals("other", tenantBulkhead.execute(tenant("other", 1), () -> "other"));
+    verify(metricsService, times(1)).incrementBulkheadRejections("slow");
+
+    release.countDown();
+    assertEquals("slow", blocked.get(5, TimeUnit.SECONDS));
+    assertEquals("again", tenantBulkhead.execute(slowTenant, () -> "again"));
+  }
+
+  @Test
+  void testQueuedRequestGetsPermitWhenOneIsReleased() throws Exception {
+    // Arrange
+    TenantBulkhead.Compartment compartment = new TenantBulkhead.Compartment(1);
+    assertTrue(compartment.acquire(1, 0));
+
+    // Act
+    Future<Boolean> queued = executor.submit(() -> compartment.acquire(1, TimeUnit.SECONDS.toNanos(5)));
+    while (compartment.queued() == 0) {
+      Thread.onSpinWait();
+    }
+    boolean overflow = compartment.acquire(1, TimeUnit.SECONDS.toNanos(5));
+    compartment.release();
+
+    // Assert
+    assertFalse(overflow);
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+    assertEquals(1, compartment.inFlight());
+    assertEquals(0, compartment.queued());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.routing.TenantCircuitBreaker.State;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TenantCircuitBreakerTest {
+
+  private static final long SLOW_CALL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long FAST_CALL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final List<String> transitions = new ArrayList<>();
+
+  private TenantCircuitBreaker breaker(long openDurationNanos) {
+    return new TenantCircuitBreaker(50, 80, SLOW_CALL_NANOS, 4, 10, openDurationNanos, 2,
+        (from, to) -> transitions.add(from + "->" + to));
+  }
+
+  private void record(TenantCircuitBreaker breaker, int calls, boolean failure, long durationNanos) {
+    for (int i = 0; i < calls; i++) {
+      assertTrue(breaker.tryAcquirePermission());
+      breaker.onResult(failure, durationNanos);
+    }
+  }
+
+  @Test
+  void testStaysClosedBelowMinimumNumberOfCalls() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+
+    // Act
+    record(breaker, 3, true, FAST_CALL_NANOS);
+
+    // Assert
+    assertEquals(State.CLOSED, breaker.getState());
+    assertTrue(transitions.isEmpty());
+  }
+
+  @Test
+  void testOpensOnFailureRateAndFailsFast() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+
+    // Act
+    record(breaker, 2, false, FAST_CALL_NANOS);
+    record(breaker, 2, true, FAST_CALL_NANOS);
+
+    // Assert
+    assertEquals(State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission());
+    assertEquals(List.of("CLOSED->OPEN"), transitions);
+  }
+
+  @Test
+  void testOpensOnSlowCallRate() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+
+    // Act
+    record(breaker, 4, false, SLOW_CALL_NANOS);
+
+    // Assert
+    assertEquals(State.OPEN, breaker.getState());
+  }
+
+  @Test
+  void testHalfOpenTrialCallsCloseTheCircuit() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(0);
+    record(breaker, 4, true, FAST_CALL_NANOS);
+
+    // Act
+    assertTrue(breaker.tryAcquirePermission());
+    assertTrue(breaker.tryAcquirePermission());
+    boolean thirdPermitted = breaker.tryAcquirePermission();
+    breaker.onResult(false, FAST_CALL_NANOS);
+    breaker.onResult(false, FAST_CALL_NANOS);
+
+    // Assert
+    assertFalse(thirdPermitted);
+    assertEquals(State.CLOSED, breaker.getState());
+    assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+  }
+
+  @Test
+  void testFailedTrialCallReopensTheCircuit() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(0);
+    record(breaker, 4, true, FAST_CALL_NANOS);
+
+    // Act
+    record(breaker, 1, false, FAST_CALL_NANOS);
+    record(breaker, 1, true, FAST_CALL_NANOS);
+
+    // Assert
+    assertEquals(State.OPEN, breaker.getState());
+    assertEquals("HALF_OPEN->OPEN", transitions.get(transitions.size() - 1));
+  }
+
+  @Test
+  void testWindowStartsOverAfterWindowSize() {
+    // Arrange
+    TenantCircuitBreaker breaker = breaker(TimeUnit.MINUTES.toNanos(1));
+    record(breaker, 10, false, FAST_CALL_NANOS);
+
+    // Act: 4 failures in 14 calls stay below the threshold, but the successes belong to the previous window
+    record(breaker, 4, true, FAST_CALL_NANOS);
+
+    // Assert
+    assertEquals(State.OPEN, breaker.getState());
+  }
+}
@@ -0,0 +1,105 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.softco.tenantapp.exception.RateLimitExceededException;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantRateLimiterTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private MetricsService metricsService;
+  private Counter admitted;
+  private Counter rejected;
+  private TenantRateLimiter tenantRateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = mock(MetricsService.class);
+    admitted = mock(Counter.class);
+    rejected = mock(Counter.class);
+    when(metricsService.rateLimitCounter("tenant1", true)).thenReturn(admitted);
+    when(metricsService.rateLimitCounter("tenant1", false)).thenReturn(rejected);
+    tenantRateLimiter = new TenantRateLimiter(metricsService);
+  }
+
+  private TenantDataModel tenant(Integer ratePerSecond, Integer burst) {
+    TenantDataModel tenant = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    tenant.setRateLimitPerSecond(ratePerSecond);
+    tenant.setRateLimitBurst(burst);
+    return tenant;
+  }
+
+  @Test
+  void testBucketAdmitsBurstThenRefillsAtRate() {
+    // Arrange: 10 per second, burst of 3
+    TenantRateLimiter.Bucket bucket = new TenantRateLimiter.Bucket(SECOND / 10, 3, 0, admitted, rejected);
+
+    // Act & Assert
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(SECOND / 10, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(SECOND / 10));
+    assertTrue(bucket.tryAcquire(SECOND / 10) > 0);
+  }
+
+  @Test
+  void testAcquireRejectsWithRetryAfter() {
+    // Arrange
+    TenantDataModel tenant = tenant(1, 1);
+    tenantRateLimiter.acquire(tenant);
+
+    // Act
+    RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+        () -> tenantRateLimiter.acquire(tenant));
+
+    // Assert
+    assertEquals(1, exception.getRetryAfterSeconds());
+    verify(admitted, times(1)).increment();
+    verify(rejected, times(1)).increment();
+  }
+
+  @Test
+  void testTenantWithoutRateIsNotLimited() {
+    // Act
+    for (int i = 0; i < 1000; i++) {
+      tenantRateLimiter.acquire(tenant(null, null));
+    }
+
+    // Assert
+    verifyNoInteractions(metricsService);
+  }
+
+  @Test
+  void testTenantChangeAppliesNewLimit() {
+    // Arrange
+    tenantRateLimiter.acquire(tenant(1, 1));
+    TenantDataModel raised = tenant(1000, 1000);
+
+    // Act
+    tenantRateLimiter.onTenantChanged(new TenantChangedEvent("tenant1", raised));
+    for (int i = 0; i < 100; i++) {
+      tenantRateLimiter.acquire(raised);
+    }
+
+    // Assert
+    verify(metricsService, times(2)).rateLimitCounter("tenant1", true);
+    verify(rejected, never()).increment();
+  }
+}
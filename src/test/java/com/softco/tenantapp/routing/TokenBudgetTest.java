@@ -0,0 +1,43 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBudgetTest {
+
+  @Test
+  void testReserveIsSpentThenRefilledByRegularCalls() {
+    // Arrange
+    TokenBudget budget = new TokenBudget(0.1, 2);
+
+    // Act & Assert
+    assertTrue(budget.tryWithdraw());
+    assertTrue(budget.tryWithdraw());
+    assertFalse(budget.tryWithdraw());
+
+    for (int i = 0; i < 9; i++) {
+      budget.deposit();
+    }
+    assertFalse(budget.tryWithdraw());
+
+    budget.deposit();
+    assertTrue(budget.tryWithdraw());
+  }
+
+  @Test
+  void testBalanceIsCappedAtMaxTokens() {
+    // Arrange
+    TokenBudget budget = new TokenBudget(1.0, 1);
+
+    // Act
+    for (int i = 0; i < 100; i++) {
+      budget.deposit();
+    }
+
+    // Assert
+    assertTrue(budget.tryWithdraw());
+    assertFalse(budget.tryWithdraw());
+  }
+}
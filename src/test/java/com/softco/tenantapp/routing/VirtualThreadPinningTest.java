@@ -0,0 +1,126 @@
+package com.softco.tenantapp.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.tenantdata.TenantDataService;
+import com.softco.tenantapp.tenantdata.TenantRoutingTable;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs the blocking routing path on virtual threads against a slow upstream and fails if any carrier thread gets
+ * pinned, e.g. by a synchronized block in our code or in the HTTP client or JDBC driver. The routing table entry is
+ * dropped before every call so the database lookup is exercised too.
+ */
+@SpringBootTest
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+  private static final String TENANT_ID = "slow-tenant";
+  private static final int CONCURRENT_REQUESTS = 200;
+
+  @Autowired
+  private RoutingService routingService;
+
+  @Autowired
+  private TenantDataService tenantDataService;
+
+  @Autowired
+  private TenantRoutingTable tenantRoutingTable;
+
+  private HttpServer upstream;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    upstream.setExecutor(Executors.newCachedThreadPool());
+    upstream.createContext("/slow", exchange -> {
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] body = "slow response".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    upstream.start();
+    TenantDataModel tenant =
+        new TenantDataModel(TENANT_ID, "http://localhost:" + upstream.getAddress().getPort() + "/slow");
+    // Every call is in flight at once; the default bulkhead would reject most of them
+    tenant.setMaxConcurrentCalls(CONCURRENT_REQUESTS);
+    tenantDataService.addTenant(tenant);
+  }
+
+  @AfterEach
+  void tearDown() {
+    tenantDataService.removeTenant(TENANT_ID);
+    upstream.stop(0);
+  }
+
+  @Test
+  void testRouteRequest_doesNotPinCarrierThreads() throws Exception {
+    // Arrange
+    Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+    List<RecordedEvent> pinnedEvents;
+
+    // Act
+    try (Recording recording = new Recording()) {
+      recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+
+      ExecutorService executor = newVirtualThreadPerTaskExecutor();
+      List<Future<String>> responses = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        responses.add(executor.submit(() -> {
+          tenantRoutingTable.remove(TENANT_ID);
+          return routingService.routeRequest(TENANT_ID).getData();
+        }));
+      }
+      for (Future<String> response : responses) {
+        assertEquals("slow response", response.get(30, TimeUnit.SECONDS));
+      }
+      executor.shutdown();
+
+      recording.stop();
+      recording.dump(dump);
+      pinnedEvents = RecordingFile.readAllEvents(dump);
+    } finally {
+      Files.deleteIfExists(dump);
+    }
+
+    // Assert
+    assertTrue(pinnedEvents.isEmpty(), () -> "Virtual threads were pinned:\n" + pinnedEvents);
+  }
+
+  /**
+   * Looked up reflectively so this source still compiles with the default Java 17 toolchain.
+   */
+  private static ExecutorService newVirtualThreadPerTaskExecutor() throws ReflectiveOperationException {
+    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+  }
+}
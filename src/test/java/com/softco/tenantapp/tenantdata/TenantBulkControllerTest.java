@@ -0,0 +1,82 @@
+package com.softco.tenantapp.tenantdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.softco.tenantapp.model.BulkResult;
+import com.softco.tenantapp.model.TenantDataModel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(TenantBulkController.class)
+class TenantBulkControllerTest {
+
+  private static final String PATH = "/api/tenants/bulk";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private TenantBulkService tenantBulkService;
+
+  @Test
+  void testUpsertTenants_readsNdjsonAndStreamsResults() throws Exception {
+    // Arrange
+    List<String> received = new ArrayList<>();
+    doAnswer(invocation -> {
+      Iterator<TenantDataModel> tenants = invocation.getArgument(0);
+      Consumer<BulkResult> sink = invocation.getArgument(1);
+      tenants.forEachRemaining(tenant -> {
+        received.add(tenant.getTenantId() + " " + tenant.getResourceEndpoint());
+        sink.accept(new BulkResult(tenant.getTenantId(), BulkResult.Status.UPSERTED, null));
+      });
+      return null;
+    }).when(tenantBulkService).upsertTenants(any(), any());
+
+    // Act
+    mockMvc.perform(post(PATH)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"tenantId\":\"tenant1\",\"resourceEndpoint\":\"https://tenant1-service.com\"}\n"
+                + "{\"tenantId\":\"tenant2\",\"resourceEndpoint\":\"https://tenant2-service.com\"}\n"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string("{\"tenantId\":\"tenant1\",\"status\":\"UPSERTED\"}\n"
+            + "{\"tenantId\":\"tenant2\",\"status\":\"UPSERTED\"}\n"));
+
+    // Assert
+    assertEquals(List.of("tenant1 https://tenant1-service.com", "tenant2 https://tenant2-service.com"), received);
+  }
+
+  @Test
+  void testDeleteTenants_readsJsonArray() throws Exception {
+    // Arrange
+    doAnswer(invocation -> {
+      Iterator<String> tenantIds = invocation.getArgument(0);
+      Consumer<BulkResult> sink = invocation.getArgument(1);
+      tenantIds.forEachRemaining(tenantId -> sink.accept(new BulkResult(tenantId,
+          tenantId.equals("tenant1") ? BulkResult.Status.DELETED : BulkResult.Status.NOT_FOUND, null)));
+      return null;
+    }).when(tenantBulkService).deleteTenants(any(), any());
+
+    // Act & Assert
+    mockMvc.perform(post(PATH + "/delete")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[\"tenant1\",\"missing\"]"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string("{\"tenantId\":\"tenant1\",\"status\":\"DELETED\"}\n"
+            + "{\"tenantId\":\"missing\",\"status\":\"NOT_FOUND\"}\n"));
+  }
+}
@@ -0,0 +1,79 @@
+package com.softco.tenantapp.tenantdata;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest
+@Import(TenantBulkRepository.class)
+class TenantBulkRepositoryTest {
+
+  @Autowired
+  private TenantBulkRepository tenantBulkRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void testUpsertInsertsNewAndReplacesExistingTenants() {
+    // Arrange
+    TenantDataModel existing = new TenantDataModel("tenant1", "https://tenant1-new.com");
+    existing.setRateLimitPerSecond(50);
+    existing.setEndpoints(List.of(new TenantEndpointModel("https://tenant1-a.com", 2)));
+    TenantDataModel added = new TenantDataModel("tenant9", "https://tenant9-service.com");
+
+    // Act
+    tenantBulkRepository.upsertAll(List.of(existing, added));
+
+    // Assert
+    assertEquals("https://tenant1-new.com", jdbcTemplate.queryForObject(
+        "SELECT resource_endpoint FROM tenant_data WHERE tenant_id = 'tenant1'", String.class));
+    assertEquals(50, jdbcTemplate.queryForObject(
+        "SELECT rate_limit_per_second FROM tenant_data WHERE tenant_id = 'tenant1'", Integer.class));
+    assertEquals(2, jdbcTemplate.queryForObject(
+        "SELECT weight FROM tenant_endpoint WHERE tenant_id = 'tenant1'", Integer.class));
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM tenant_data WHERE tenant_id = 'tenant9'", Integer.class));
+  }
+
+  @Test
+  void testDeleteReportsWhichTenantsExisted() {
+    // Act
+    boolean[] deleted = tenantBulkRepository.deleteAll(List.of("tenant1", "unknown"));
+
+    // Assert
+    assertArrayEquals(new boolean[] {true, false}, deleted);
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM tenant_data WHERE tenant_id = 'tenant1'", Integer.class));
+  }
+
+  @Test
+  void testStreamAllGroupsEndpointsUnderTheirTenant() {
+    // Arrange
+    TenantDataModel tenant = new TenantDataModel("tenant0", "https://tenant0-service.com");
+    tenant.setEndpoints(List.of(new TenantEndpointModel("https://tenant0-a.com", 1),
+        new TenantEndpointModel("https://tenant0-b.com", 3)));
+    tenantBulkRepository.upsertAll(List.of(tenant));
+    List<TenantDataModel> exported = new ArrayList<>();
+
+    // Act
+    tenantBulkRepository.streamAll(exported::add);
+
+    // Assert
+    assertEquals(List.of("tenant0", "tenant1", "tenant2"),
+        exported.stream().map(TenantDataModel::getTenantId).toList());
+    assertEquals(2, exported.get(0).getEndpoints().size());
+    assertTrue(exported.get(1).getEndpoints().isEmpty());
+  }
+}
+
@@ -0,0 +1,188 @@
+package com.softco.tenantapp.tenantdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.softco.tenantapp.config.TenantBulkProperties;
+import com.softco.tenantapp.model.BulkResult;
+import com.softco.tenantapp.model.BulkResult.Status;
+import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantEndpointModel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class TenantBulkServiceTest {
+
+  private TenantBulkRepository tenantBulkRepository;
+  private TenantRoutingTable tenantRoutingTable;
+  private ApplicationEventPublisher eventPublisher;
+  private TenantBulkService tenantBulkService;
+  private final List<BulkResult> results = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    tenantBulkRepository = mock(TenantBulkRepository.class);
+    tenantRoutingTable = mock(TenantRoutingTable.class);
+    eventPublisher = mock(ApplicationEventPublisher.class);
+    TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    doAnswer(invocation -> {
+      invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    TenantBulkProperties properties = new TenantBulkProperties();
+    properties.setChunkSize(2);
+    tenantBulkService = new TenantBulkService(properties, tenantBulkRepository, tenantRoutingTable, eventPublisher,
+        transactionTemplate);
+  }
+
+  private static List<TenantDataModel> tenants(int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(i -> new TenantDataModel("tenant" + i, "https://tenant" + i + "-service.com"))
+        .toList();
+  }
+
+  @Test
+  void testUpsertWritesInChunksAndUpdatesRoutingState() {
+    // Act
+    tenantBulkService.upsertTenants(tenants(3).iterator(), results::add);
+
+    // Assert
+    verify(tenantBulkRepository, times(1)).upsertAll(tenants(3).subList(0, 2));
+    verify(tenantBulkRepository, times(1)).upsertAll(tenants(3).subList(2, 3));
+    verify(tenantRoutingTable, times(2)).putAll(any());
+    verify(eventPublisher, times(3)).publishEvent(any(TenantChangedEvent.class));
+    assertEquals(3, results.size());
+    assertEquals(Status.UPSERTED, results.get(2).getStatus());
+  }
+
+  @Test
+  void testInvalidItemsAreReportedAndSkipped() {
+    // Arrange
+    List<TenantDataModel> input = List.of(new TenantDataModel("tenant1", "https://tenant1-service.com"),
+        new TenantDataModel("tenant2", null));
+
+    // Act
+    tenantBulkService.upsertTenants(input.iterator(), results::add);
+
+    // Assert
+    verify(tenantBulkRepository, times(1)).upsertAll(List.of(input.get(0)));
+    assertEquals(new BulkResult("tenant2", Status.INVALID, "resourceEndpoint is required"), results.get(0));
+    assertEquals(Status.UPSERTED, results.get(1).getStatus());
+  }
+
+  @Test
+  void testInvalidEndpointIsReportedPerItem() {
+    // Arrange
+    TenantDataModel blankUrl = new TenantDataModel("tenant2", "https://tenant2-service.com");
+    blankUrl.setEndpoints(List.of(new TenantEndpointModel(" ", 1)));
+    TenantDataModel longUrl = new TenantDataModel("tenant3", "https://tenant3-service.com");
+    longUrl.setEndpoints(List.of(new TenantEndpointModel("https://" + "a".repeat(250) + ".com", 1)));
+    List<TenantDataModel> input = List.of(new TenantDataModel("tenant1", "https://tenant1-service.com"), blankUrl,
+        longUrl);
+
+    // Act
+    tenantBulkService.upsertTenants(input.iterator(), results::add);
+
+    // Assert
+    verify(tenantBulkRepository, times(1)).upsertAll(List.of(input.get(0)));
+    assertEquals(new BulkResult("tenant2", Status.INVALID, "endpoints[].url is required"), results.get(0));
+    assertEquals(new BulkResult("tenant3", Status.INVALID, "endpoints[].url must be at most 255 characters"),
+        results.get(2));
+  }
+
+  @Test
+  void testDuplicateTenantInChunkIsWrittenOnceWithLastCopy() {
+    // Arrange
+    TenantDataModel first = new TenantDataModel("tenant1", "https://tenant1-old.com");
+    TenantDataModel last = new TenantDataModel("tenant1", "https://tenant1-new.com");
+
+    // Act
+    tenantBulkService.upsertTenants(List.of(first, last).iterator(), results::add);
+
+    // Assert
+    verify(tenantBulkRepository, times(1)).upsertAll(List.of(last));
+    verify(tenantRoutingTable, times(1)).putAll(List.of(last));
+    verify(eventPublisher, times(1)).publishEvent(any(TenantChangedEvent.class));
+    assertEquals(2, results.size());
+    assertEquals(Status.UPSERTED, results.get(1).getStatus());
+  }
+
+  @Test
+  void testFailedChunkIsReportedWithoutTouchingRoutingState() {
+    // Arrange
+    doThrow(new DataIntegrityViolationException("constraint violated"))
+        .when(tenantBulkRepository).upsertAll(any());
+
+    // Act
+    tenantBulkService.upsertTenants(tenants(2).iterator(), results::add);
+
+    // Assert
+    assertEquals(2, results.size());
+    assertEquals(Status.FAILED, results.get(0).getStatus());
+    verify(tenantRoutingTable, never()).putAll(any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void testMalformedInputKeepsItemsReadBeforeIt() {
+    // Arrange
+    Iterator<TenantDataModel> input = new Iterator<>() {
+      private int read;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public TenantDataModel next() {
+        if (read++ == 1) {
+          throw new IllegalStateException("Unexpected character");
+        }
+        return new TenantDataModel("tenant1", "https://tenant1-service.com");
+      }
+    };
+
+    // Act
+    tenantBulkService.upsertTenants(input, results::add);
+
+    // Assert
+    verify(tenantBulkRepository, times(1)).upsertAll(any());
+    assertEquals(Status.UPSERTED, results.get(0).getStatus());
+    assertEquals(new BulkResult(null, Status.INVALID, "Malformed input: Unexpected character"), results.get(1));
+  }
+
+  @Test
+  void testDeleteReportsMissingTenants() {
+    // Arrange
+    when(tenantBulkRepository.deleteAll(List.of("tenant1", "unknown"))).thenReturn(new boolean[] {true, false});
+
+    // Act
+    tenantBulkService.deleteTenants(List.of("tenant1", "unknown").iterator(), results::add);
+
+    // Assert
+    assertEquals(List.of(new BulkResult("tenant1", Status.DELETED, null),
+        new BulkResult("unknown", Status.NOT_FOUND, null)), results);
+    verify(tenantRoutingTable, times(1)).removeAll(List.of("tenant1"));
+    verify(eventPublisher, times(1)).publishEvent(new TenantChangedEvent("tenant1", null));
+  }
+}
@@ -1,11 +1,18 @@
 package com.softco.tenantapp.tenantdata;
 
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -13,6 +20,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softco.tenantapp.exception.TenantNotFoundException;
 import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantPage;
+import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -32,6 +42,9 @@ class TenantDataControllerTest {
   @MockitoBean
   private TenantDataService tenantDataService;
 
+  @MockitoBean
+  private TenantBulkService tenantBulkService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -49,6 +62,40 @@ class TenantDataControllerTest {
         .andExpect(jsonPath("$.resourceEndpoint").value("https://tenant1-service.com"));
   }
 
+  @Test
+  void testListTenants() throws Exception {
+    // Arrange
+    TenantPage page = new TenantPage(List.of(new TenantDataModel(TENANT_ID, "https://tenant1-service.com")),
+        TENANT_ID);
+    when(tenantDataService.listTenants(null, 1)).thenReturn(page);
+
+    // Act & Assert
+    mockMvc.perform(get(PATH).param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.tenants[0].tenantId").value(TENANT_ID))
+        .andExpect(jsonPath("$.nextCursor").value(TENANT_ID));
+  }
+
+  @Test
+  void testExportTenants_streamsNdjsonWhenAccepted() throws Exception {
+    // Arrange
+    doAnswer(invocation -> {
+      Consumer<TenantDataModel> sink = invocation.getArgument(0);
+      sink.accept(new TenantDataModel("tenant1", "https://tenant1-service.com"));
+      sink.accept(new TenantDataModel("tenant2", "https://tenant2-service.com"));
+      return null;
+    }).when(tenantBulkService).exportTenants(any());
+
+    // Act & Assert
+    mockMvc.perform(get(PATH).accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(allOf(
+            startsWith("{\"tenantId\":\"tenant1\","),
+            containsString("}\n{\"tenantId\":\"tenant2\","),
+            endsWith("}\n"))));
+  }
+
   @Test
   void testGetTenantById_error() throws Exception {
     // Arrange
@@ -79,6 +126,22 @@ class TenantDataControllerTest {
         .andExpect(jsonPath("$.resourceEndpoint").value("https://tenant1-service.com"));
   }
 
+  @Test
+  void testUpdateTenant() throws Exception {
+    // Arrange
+    TenantDataModel tenantData = new TenantDataModel(TENANT_ID, "https://tenant1-service.com");
+    tenantData.setRateLimitPerSecond(50);
+    when(tenantDataService.updateTenant(eq(TENANT_ID), any(TenantDataModel.class))).thenReturn(tenantData);
+
+    // Act & Assert
+    mockMvc.perform(put(PATH + "/" + TENANT_ID)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(tenantData)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.tenantId").value(TENANT_ID))
+        .andExpect(jsonPath("$.rateLimitPerSecond").value(50));
+  }
+
   @Test
   void testRemoveTenant() throws Exception {
     // Arrange
@@ -2,29 +2,45 @@ package com.softco.tenantapp.tenantdata;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.softco.tenantapp.entity.TenantDataEntity;
+import com.softco.tenantapp.exception.InvalidRequestException;
 import com.softco.tenantapp.exception.TenantNotFoundException;
 import com.softco.tenantapp.model.TenantDataModel;
+import com.softco.tenantapp.model.TenantPage;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 class TenantDataServiceTest {
 
   @Mock
   private TenantDataRepository tenantDataRepository;
 
+  @Mock
+  private TenantRoutingTable tenantRoutingTable;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private TenantDataService tenantDataService;
 
@@ -48,6 +64,22 @@ class TenantDataServiceTest {
     assertEquals(tenantId, result.getTenantId());
     assertEquals("https://tenant1-service.com", result.getResourceEndpoint());
     verify(tenantDataRepository, times(1)).findById(tenantId);
+    verify(tenantRoutingTable, times(1)).load(result, 0L);
+  }
+
+  @Test
+  void testGetTenantById_routingTableHit() {
+    // Arrange
+    String tenantId = "tenant1";
+    TenantDataModel cached = new TenantDataModel(tenantId, "https://tenant1-service.com");
+    when(tenantRoutingTable.find(tenantId)).thenReturn(cached);
+
+    // Act
+    TenantDataModel result = tenantDataService.getTenantById(tenantId);
+
+    // Assert
+    assertSame(cached, result);
+    verifyNoInteractions(tenantDataRepository);
   }
 
   @Test
@@ -61,6 +93,21 @@ class TenantDataServiceTest {
         () -> tenantDataService.getTenantById(tenantId));
     assertEquals("Tenant with ID nonexistent not found", exception.getMessage());
     verify(tenantDataRepository, times(1)).findById(tenantId);
+    verify(tenantRoutingTable, times(1)).markMissing(tenantId, 0L);
+  }
+
+  @Test
+  void testGetTenantById_knownMissing() {
+    // Arrange
+    String tenantId = "nonexistent";
+    when(tenantRoutingTable.isKnownMissing(tenantId)).thenReturn(true);
+
+    // Act & Assert
+    TenantNotFoundException exception = assertThrows(TenantNotFoundException.class,
+        () -> tenantDataService.getTenantById(tenantId));
+    assertEquals("Tenant with ID nonexistent not found", exception.getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+    verifyNoInteractions(tenantDataRepository);
   }
 
   @Test
@@ -78,6 +125,37 @@ class TenantDataServiceTest {
     assertEquals(tenantModel.getTenantId(), result.getTenantId());
     assertEquals(tenantModel.getResourceEndpoint(), result.getResourceEndpoint());
     verify(tenantDataRepository, times(1)).save(any(TenantDataEntity.class));
+    verify(tenantRoutingTable, times(1)).put(result);
+    verify(eventPublisher, times(1)).publishEvent(new TenantChangedEvent("tenant1", result));
+  }
+
+  @Test
+  void testUpdateTenant_tenantExists() {
+    // Arrange
+    TenantDataModel tenantModel = new TenantDataModel("ignored", "https://tenant1-service.com");
+    tenantModel.setRateLimitPerSecond(100);
+    when(tenantDataRepository.existsById("tenant1")).thenReturn(true);
+    when(tenantDataRepository.save(any(TenantDataEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    TenantDataModel result = tenantDataService.updateTenant("tenant1", tenantModel);
+
+    // Assert
+    assertEquals("tenant1", result.getTenantId());
+    assertEquals(100, result.getRateLimitPerSecond());
+    verify(tenantRoutingTable, times(1)).put(result);
+    verify(eventPublisher, times(1)).publishEvent(new TenantChangedEvent("tenant1", result));
+  }
+
+  @Test
+  void testUpdateTenant_tenantNotFound() {
+    // Arrange
+    when(tenantDataRepository.existsById("nonexistent")).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(TenantNotFoundException.class,
+        () -> tenantDataService.updateTenant("nonexistent", new TenantDataModel()));
+    verify(tenantDataRepository, never()).save(any(TenantDataEntity.class));
   }
 
   @Test
@@ -93,6 +171,8 @@ class TenantDataServiceTest {
     // Assert
     verify(tenantDataRepository, times(1)).existsById(tenantId);
     verify(tenantDataRepository, times(1)).deleteById(tenantId);
+    verify(tenantRoutingTable, times(1)).remove(tenantId);
+    verify(eventPublisher, times(1)).publishEvent(new TenantChangedEvent(tenantId, null));
   }
 
   @Test
@@ -107,6 +187,79 @@ class TenantDataServiceTest {
     assertEquals("Tenant with ID nonexistent not found", exception.getMessage());
     verify(tenantDataRepository, times(1)).existsById(tenantId);
     verify(tenantDataRepository, never()).deleteById(tenantId);
+    verify(tenantRoutingTable, never()).remove(tenantId);
+  }
+
+  @Test
+  void testLoadRoutingTable() {
+    // Arrange
+    TenantDataEntity tenantEntity = new TenantDataEntity("tenant1", "https://tenant1-service.com");
+    when(tenantRoutingTable.capacity()).thenReturn(100L);
+    when(tenantDataRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tenantEntity)));
+
+    // Act
+    tenantDataService.loadRoutingTable();
+
+    // Assert
+    verify(tenantRoutingTable, times(1)).loadAll(List.of(TenantDataModel.from(tenantEntity)));
+  }
+
+  @Test
+  void testGetTenantsByIds_loadsMissesInOneQuery() {
+    // Arrange
+    TenantDataModel cached = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    when(tenantRoutingTable.find("tenant1")).thenReturn(cached);
+    when(tenantRoutingTable.isKnownMissing("unknown")).thenReturn(true);
+    when(tenantDataRepository.findAllById(List.of("tenant2", "tenant3")))
+        .thenReturn(List.of(new TenantDataEntity("tenant2", "https://tenant2-service.com")));
+
+    // Act
+    var result = tenantDataService.getTenantsByIds(List.of("tenant1", "tenant2", "tenant3", "unknown"));
+
+    // Assert
+    assertEquals(2, result.size());
+    assertSame(cached, result.get("tenant1"));
+    assertEquals("https://tenant2-service.com", result.get("tenant2").getResourceEndpoint());
+    verify(tenantDataRepository, times(1)).findAllById(List.of("tenant2", "tenant3"));
+    verify(tenantRoutingTable, times(1)).load(result.get("tenant2"), 0L);
+    verify(tenantRoutingTable, times(1)).markMissing("tenant3", 0L);
+  }
+
+  @Test
+  void testListTenants_fullPageHasNextCursor() {
+    // Arrange
+    when(tenantDataRepository.findByTenantIdGreaterThanOrderByTenantId("", Limit.of(2))).thenReturn(List.of(
+        new TenantDataEntity("tenant1", "https://tenant1-service.com"),
+        new TenantDataEntity("tenant2", "https://tenant2-service.com")));
+
+    // Act
+    TenantPage page = tenantDataService.listTenants(null, 2);
+
+    // Assert
+    assertEquals(2, page.getTenants().size());
+    assertEquals("tenant2", page.getNextCursor());
+  }
+
+  @Test
+  void testListTenants_lastPageHasNoCursor() {
+    // Arrange
+    when(tenantDataRepository.findByTenantIdGreaterThanOrderByTenantId("tenant2", Limit.of(2))).thenReturn(List.of(
+        new TenantDataEntity("tenant3", "https://tenant3-service.com")));
+
+    // Act
+    TenantPage page = tenantDataService.listTenants("tenant2", 2);
+
+    // Assert
+    assertEquals("tenant3", page.getTenants().get(0).getTenantId());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void testListTenants_rejectsOversizedPage() {
+    // Act & Assert
+    assertThrows(InvalidRequestException.class,
+        () -> tenantDataService.listTenants(null, TenantDataService.MAX_PAGE_SIZE + 1));
+    verifyNoInteractions(tenantDataRepository);
   }
 }
 
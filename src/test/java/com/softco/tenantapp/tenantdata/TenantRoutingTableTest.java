@@ -0,0 +1,132 @@
+package com.softco.tenantapp.tenantdata;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.softco.tenantapp.config.RoutingTableProperties;
+import com.softco.tenantapp.config.TenantMetricsProperties;
+import com.softco.tenantapp.metrics.MetricsService;
+import com.softco.tenantapp.model.TenantDataModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantRoutingTableTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private TenantRoutingTable tenantRoutingTable;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    tenantRoutingTable = new TenantRoutingTable(new RoutingTableProperties(),
+        new MetricsService(meterRegistry, new TenantMetricsProperties()));
+  }
+
+  @Test
+  void testFind_hitAndMiss() {
+    // Arrange
+    TenantDataModel tenant = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    tenantRoutingTable.load(tenant, tenantRoutingTable.generation());
+
+    // Act
+    TenantDataModel hit = tenantRoutingTable.find("tenant1");
+    TenantDataModel miss = tenantRoutingTable.find("tenant2");
+
+    // Assert
+    assertEquals(tenant, hit);
+    assertNull(miss);
+    assertEquals(1.0, meterRegistry.get("tenant.routing.table.lookups").tag("result", "hit").counter().count());
+    assertEquals(1.0, meterRegistry.get("tenant.routing.table.lookups").tag("result", "miss").counter().count());
+    assertEquals(1.0, meterRegistry.get("tenant.routing.table.loads").tag("source", "miss").counter().count());
+  }
+
+  @Test
+  void testLoadAll() {
+    // Arrange
+    List<TenantDataModel> tenants = List.of(
+        new TenantDataModel("tenant1", "https://tenant1-service.com"),
+        new TenantDataModel("tenant2", "https://tenant2-service.com"));
+
+    // Act
+    tenantRoutingTable.loadAll(tenants);
+
+    // Assert
+    assertEquals(2, tenantRoutingTable.size());
+    assertEquals(2.0, meterRegistry.get("tenant.routing.table.loads").tag("source", "bulk").counter().count());
+  }
+
+  @Test
+  void testRemove() {
+    // Arrange
+    tenantRoutingTable.put(new TenantDataModel("tenant1", "https://tenant1-service.com"));
+
+    // Act
+    tenantRoutingTable.remove("tenant1");
+
+    // Assert
+    assertNull(tenantRoutingTable.find("tenant1"));
+  }
+
+  @Test
+  void testNegativeCache_invalidatedWhenTenantIsAdded() {
+    // Arrange
+    tenantRoutingTable.markMissing("tenant1", tenantRoutingTable.generation());
+
+    // Act
+    boolean missingBeforeAdd = tenantRoutingTable.isKnownMissing("tenant1");
+    tenantRoutingTable.put(new TenantDataModel("tenant1", "https://tenant1-service.com"));
+
+    // Assert
+    assertTrue(missingBeforeAdd);
+    assertFalse(tenantRoutingTable.isKnownMissing("tenant1"));
+    assertEquals(1.0, meterRegistry.get("tenant.routing.table.negative.hits").counter().count());
+  }
+
+  @Test
+  void testLoad_skippedWhenTenantRemovedDuringLookup() {
+    // Arrange
+    tenantRoutingTable.put(new TenantDataModel("tenant1", "https://tenant1-service.com"));
+    long generation = tenantRoutingTable.generation();
+    TenantDataModel readBeforeDelete = new TenantDataModel("tenant1", "https://tenant1-service.com");
+
+    // Act
+    tenantRoutingTable.remove("tenant1");
+    tenantRoutingTable.load(readBeforeDelete, generation);
+
+    // Assert
+    assertNull(tenantRoutingTable.find("tenant1"));
+  }
+
+  @Test
+  void testMarkMissing_skippedWhenTenantAddedDuringLookup() {
+    // Arrange
+    long generation = tenantRoutingTable.generation();
+
+    // Act
+    tenantRoutingTable.put(new TenantDataModel("tenant1", "https://tenant1-service.com"));
+    tenantRoutingTable.markMissing("tenant1", generation);
+
+    // Assert
+    assertFalse(tenantRoutingTable.isKnownMissing("tenant1"));
+  }
+
+  @Test
+  void testPut_storesCopyOfCallerTenant() {
+    // Arrange
+    TenantDataModel tenant = new TenantDataModel("tenant1", "https://tenant1-service.com");
+    tenantRoutingTable.put(tenant);
+
+    // Act
+    tenant.setResourceEndpoint("https://changed.example.com");
+
+    // Assert
+    TenantDataModel cached = tenantRoutingTable.find("tenant1");
+    assertNotSame(tenant, cached);
+    assertEquals("https://tenant1-service.com", cached.getResourceEndpoint());
+  }
+}